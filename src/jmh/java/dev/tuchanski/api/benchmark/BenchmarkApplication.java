@@ -0,0 +1,33 @@
+package dev.tuchanski.api.benchmark;
+
+import dev.tuchanski.api.ApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+// Starts the full application against an in-memory H2 database with a Hibernate-generated schema.
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String database, String... extraArgs) {
+        // Command-line arguments take precedence over application.properties.
+        String[] args = {
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.flyway.enabled=false"
+        };
+
+        return new SpringApplicationBuilder(ApiApplication.class).run(Stream.concat(Arrays.stream(args), Arrays.stream(extraArgs)).toArray(String[]::new));
+    }
+}
@@ -0,0 +1,71 @@
+package dev.tuchanski.api.benchmark;
+
+import dev.tuchanski.api.entity.Comment;
+import dev.tuchanski.api.entity.Tweet;
+import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.entity.enums.UserRole;
+import dev.tuchanski.api.infra.id.UuidV7Generator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Entity graphs shaped like a loaded timeline page: a handful of authors, tweets with
+ * counters and timestamps, and comment previews written by other users.
+ */
+final class BenchmarkFixtures {
+
+    private static final String TWEET_CONTENT = "Shipping the new timeline today. Cursor pagination, fan-out on write and a lot less N+1. #java #springboot";
+    private static final String COMMENT_CONTENT = "Nice! How does it behave for accounts with a lot of followers?";
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            ReflectionTestUtils.setField(user, "id", UuidV7Generator.next());
+            user.setName("Benchmark User " + i);
+            user.setUsername("benchmark_user_" + i);
+            user.setEmail("benchmark_user_" + i + "@example.com");
+            user.setBio("Writes software, occasionally about software.");
+            user.setRole(UserRole.USER);
+            users.add(user);
+        }
+        return users;
+    }
+
+    static List<Tweet> tweets(int count, List<User> authors) {
+        List<Tweet> tweets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Tweet tweet = new Tweet();
+            ReflectionTestUtils.setField(tweet, "id", UuidV7Generator.next());
+            tweet.setLikeCount(1_000L + i);
+            tweet.setCommentCount(40L + i);
+            tweet.setContent(TWEET_CONTENT);
+            tweet.setUser(authors.get(i % authors.size()));
+            tweet.setCreatedAt(new Date(System.currentTimeMillis() - i * 60_000L));
+            tweet.setUpdatedAt(tweet.getCreatedAt());
+            tweets.add(tweet);
+        }
+        return tweets;
+    }
+
+    static List<Comment> comments(Tweet tweet, int count, List<User> authors) {
+        List<Comment> comments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Comment comment = new Comment();
+            ReflectionTestUtils.setField(comment, "id", UuidV7Generator.next());
+            comment.setContent(COMMENT_CONTENT);
+            comment.setTweet(tweet);
+            comment.setUser(authors.get((i + 1) % authors.size()));
+            comment.setCreatedAt(new Date(tweet.getCreatedAt().getTime() + (i + 1) * 1_000L));
+            comment.setUpdatedAt(comment.getCreatedAt());
+            comments.add(comment);
+        }
+        return comments;
+    }
+}
@@ -0,0 +1,64 @@
+package dev.tuchanski.api.benchmark;
+
+import dev.tuchanski.api.dto.comment.CommentResponseDTO;
+import dev.tuchanski.api.dto.tweet.TweetResponseDTO;
+import dev.tuchanski.api.entity.Comment;
+import dev.tuchanski.api.entity.Tweet;
+import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.mapper.CommentMapper;
+import dev.tuchanski.api.mapper.TweetMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"3"})
+    private int commentsPerTweet;
+
+    private final TweetMapper tweetMapper = new TweetMapper();
+    private final CommentMapper commentMapper = new CommentMapper();
+
+    private List<Tweet> tweets;
+    private List<List<Comment>> comments;
+
+    @Setup
+    public void setUp() {
+        List<User> users = BenchmarkFixtures.users(10);
+        tweets = BenchmarkFixtures.tweets(pageSize, users);
+        comments = new ArrayList<>(pageSize);
+        for (Tweet tweet : tweets) {
+            comments.add(BenchmarkFixtures.comments(tweet, commentsPerTweet, users));
+        }
+    }
+
+    // Same work as TweetViewAssembler.toDTOs once the page and its comment previews are loaded.
+    @Benchmark
+    public List<TweetResponseDTO> tweetPageToDTOs() {
+        List<TweetResponseDTO> result = new ArrayList<>(tweets.size());
+        for (int i = 0; i < tweets.size(); i++) {
+            List<CommentResponseDTO> previews = comments.get(i).stream().map(commentMapper::toDTO).toList();
+            result.add(tweetMapper.toDTO(tweets.get(i), previews));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<CommentResponseDTO> commentsToDTOs() {
+        List<CommentResponseDTO> result = new ArrayList<>(tweets.size() * commentsPerTweet);
+        for (List<Comment> tweetComments : comments) {
+            for (Comment comment : tweetComments) {
+                result.add(commentMapper.toDTO(comment));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+package dev.tuchanski.api.benchmark;
+
+import dev.tuchanski.api.dto.user.UserRequestDTO;
+import dev.tuchanski.api.dto.user.UserResponseDTO;
+import dev.tuchanski.api.infra.id.UuidV7Generator;
+import dev.tuchanski.api.service.user.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@code UserService.create} against an in-memory H2 database pre-filled with
+ * {@code existingUsers} rows. Latency should not depend on the table size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class RegistrationBenchmark {
+
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    @Param({"10", "10000", "1000000"})
+    private int existingUsers;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("registration");
+        userService = context.getBean(UserService.class);
+
+        // The first registration claims the admin flag, as it would in production.
+        userService.create(new UserRequestDTO("Admin", "admin", "admin@example.com", "password"));
+        seed(context.getBean(JdbcTemplate.class), existingUsers - 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserResponseDTO register() {
+        int n = next++;
+        return userService.create(new UserRequestDTO("Benchmark", "b" + n, "b" + n + "@example.com", "password"));
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int count) {
+        // Any valid BCrypt hash; seeded users never log in.
+        String password = "$2a$10$7EqJtq98hPqEX7fNZaFWoOa5Lh0xEbG6rXKjNRbYDJyJY5T2x6Ui2";
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        for (int from = 0; from < count; from += SEED_BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int i = from; i < Math.min(count, from + SEED_BATCH_SIZE); i++) {
+                batch.add(new Object[]{UuidV7Generator.next(), "Seed", "seed" + i, "seed" + i + "@example.com", password, now});
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO users (id, name, username, email, password, role, follower_count, following_count, created_at) VALUES (?, ?, ?, ?, ?, 'USER', 0, 0, ?)",
+                    batch);
+        }
+    }
+}
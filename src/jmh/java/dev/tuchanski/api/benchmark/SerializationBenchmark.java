@@ -0,0 +1,58 @@
+package dev.tuchanski.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.tuchanski.api.dto.comment.CommentResponseDTO;
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import dev.tuchanski.api.dto.tweet.TweetResponseDTO;
+import dev.tuchanski.api.entity.Tweet;
+import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.infra.pagination.Cursor;
+import dev.tuchanski.api.mapper.CommentMapper;
+import dev.tuchanski.api.mapper.TweetMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    // Same defaults Spring Boot applies to the application's ObjectMapper.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private CursorPageResponseDTO<TweetResponseDTO> page;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        TweetMapper tweetMapper = new TweetMapper();
+        CommentMapper commentMapper = new CommentMapper();
+
+        List<User> users = BenchmarkFixtures.users(10);
+        List<Tweet> tweets = BenchmarkFixtures.tweets(pageSize, users);
+        List<TweetResponseDTO> content = new ArrayList<>(pageSize);
+        for (Tweet tweet : tweets) {
+            List<CommentResponseDTO> previews = BenchmarkFixtures.comments(tweet, 3, users).stream()
+                    .map(commentMapper::toDTO)
+                    .toList();
+            content.add(tweetMapper.toDTO(tweet, previews));
+        }
+        Tweet last = tweets.get(tweets.size() - 1);
+        page = new CursorPageResponseDTO<>(content, new Cursor(last.getCreatedAt(), last.getId()).encode());
+
+        // Resolve serializers before measuring.
+        objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeTweetPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
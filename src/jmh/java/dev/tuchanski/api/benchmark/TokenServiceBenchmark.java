@@ -0,0 +1,55 @@
+package dev.tuchanski.api.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.service.auth.TokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET = "benchmark_secret";
+    private static final String ISSUER = "api-twitter-like";
+
+    private TokenService tokenService;
+    private JWTVerifier prebuiltVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService(SECRET, 10_000, 900, 2_592_000, new SimpleMeterRegistry());
+        prebuiltVerifier = JWT.require(Algorithm.HMAC256(SECRET)).withIssuer(ISSUER).build();
+
+        User user = new User();
+        user.setUsername("benchmark");
+        token = tokenService.generateToken(user);
+    }
+
+    // Previous TokenService behaviour: a new Algorithm and JWTVerifier on every call.
+    @Benchmark
+    public String rebuildVerifierPerCall() {
+        return JWT.require(Algorithm.HMAC256(SECRET))
+                .withIssuer(ISSUER)
+                .build()
+                .verify(token)
+                .getSubject();
+    }
+
+    // Cache-miss path of TokenService.validateToken.
+    @Benchmark
+    public String prebuiltVerifier() {
+        return prebuiltVerifier.verify(token).getSubject();
+    }
+
+    @Benchmark
+    public String validateTokenCached() {
+        return tokenService.validateToken(token);
+    }
+}
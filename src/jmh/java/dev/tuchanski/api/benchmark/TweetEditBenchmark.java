@@ -0,0 +1,101 @@
+package dev.tuchanski.api.benchmark;
+
+import dev.tuchanski.api.entity.Tweet;
+import dev.tuchanski.api.infra.id.UuidV7Generator;
+import dev.tuchanski.api.repository.TweetRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Eight threads editing the same tweet. {@code optimistic} is the read-modify-write of
+ * TweetServiceImpl.update with the {@code @Version} check: a writer that loses the race fails at
+ * flush instead of waiting. {@code pessimistic} takes a row lock first, so writers queue behind
+ * each other and every edit succeeds. The {@code edits} and {@code conflicts} secondary results
+ * split the optimistic attempts into committed and rejected ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Threads(8)
+public class TweetEditBenchmark {
+
+    private final AtomicLong edits = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private TweetRepository tweetRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transaction;
+    private UUID tweetId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("tweet_edit");
+        tweetRepository = context.getBean(TweetRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        UUID userId = UuidV7Generator.next();
+        tweetId = UuidV7Generator.next();
+        jdbcTemplate.update(
+                "INSERT INTO users (id, name, username, email, password, role, follower_count, following_count, created_at) VALUES (?, 'Editor', 'editor', 'editor@example.com', 'x', 'USER', 0, 0, ?)",
+                userId, now);
+        jdbcTemplate.update(
+                "INSERT INTO tweets (id, content, user_id, like_count, comment_count, version, created_at, updated_at) VALUES (?, 'Draft', ?, 0, 0, 0, ?, ?)",
+                tweetId, userId, now, now);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void optimistic(Outcomes outcomes) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                Tweet tweet = tweetRepository.findById(tweetId).orElseThrow();
+                tweet.setContent(nextContent());
+                tweetRepository.saveAndFlush(tweet);
+            });
+            outcomes.edits++;
+        } catch (ObjectOptimisticLockingFailureException e) {
+            outcomes.conflicts++;
+        }
+    }
+
+    @Benchmark
+    public void pessimistic(Outcomes outcomes) {
+        transaction.executeWithoutResult(status -> {
+            Tweet tweet = entityManager.find(Tweet.class, tweetId, LockModeType.PESSIMISTIC_WRITE);
+            tweet.setContent(nextContent());
+            entityManager.flush();
+        });
+        outcomes.edits++;
+    }
+
+    private String nextContent() {
+        return "Edit number " + edits.incrementAndGet();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+        public long edits;
+        public long conflicts;
+    }
+}
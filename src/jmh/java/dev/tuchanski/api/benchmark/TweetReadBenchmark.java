@@ -0,0 +1,106 @@
+package dev.tuchanski.api.benchmark;
+
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import dev.tuchanski.api.dto.tweet.TweetResponseDTO;
+import dev.tuchanski.api.entity.Tweet;
+import dev.tuchanski.api.infra.id.UuidV7Generator;
+import dev.tuchanski.api.infra.pagination.CursorPagination;
+import dev.tuchanski.api.mapper.TweetMapper;
+import dev.tuchanski.api.service.tweet.TweetService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One page of {@code GET /api/tweets} through the service layer, compared with the previous
+ * implementation that loaded managed {@link Tweet} entities. Comment previews are disabled because
+ * both variants load them the same way. Run with {@code -prof gc} to compare
+ * {@code gc.alloc.rate.norm} (bytes allocated per page).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TweetReadBenchmark {
+
+    private static final int USERS = 100;
+    private static final int TWEETS = 5_000;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TweetService tweetService;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private TweetMapper tweetMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("tweet_read", "--api.tweets.comment-preview-size=0");
+        tweetService = context.getBean(TweetService.class);
+        entityManager = context.getBean(EntityManager.class);
+        tweetMapper = context.getBean(TweetMapper.class);
+
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<TweetResponseDTO> projection() {
+        return tweetService.findAll(null, pageSize);
+    }
+
+    // Entity query with the author fetch-joined, as TweetServiceImpl.findAll did before projections.
+    @Benchmark
+    public CursorPageResponseDTO<TweetResponseDTO> managedEntities() {
+        return readOnlyTransaction.execute(status -> {
+            List<Tweet> tweets = entityManager
+                    .createQuery("select t from Tweet t join fetch t.user order by t.createdAt desc, t.id desc", Tweet.class)
+                    .setMaxResults(pageSize + 1)
+                    .getResultList();
+
+            return CursorPagination.toPage(tweets, pageSize, Tweet::getCreatedAt, Tweet::getId, tweet -> tweetMapper.toDTO(tweet, List.of()));
+        });
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        long now = System.currentTimeMillis();
+        List<UUID> userIds = new ArrayList<>(USERS);
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            UUID id = UuidV7Generator.next();
+            userIds.add(id);
+            users.add(new Object[]{id, "Reader " + i, "reader" + i, "reader" + i + "@example.com", "x", new Timestamp(now)});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (id, name, username, email, password, role, follower_count, following_count, created_at) VALUES (?, ?, ?, ?, ?, 'USER', 0, 0, ?)",
+                users);
+
+        List<Object[]> tweets = new ArrayList<>(TWEETS);
+        for (int i = 0; i < TWEETS; i++) {
+            Timestamp createdAt = new Timestamp(now - i * 1_000L);
+            tweets.add(new Object[]{UuidV7Generator.next(), "Tweet number " + i + " with some #hashtags and a mention of @reader1", userIds.get(i % USERS), createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tweets (id, content, user_id, like_count, comment_count, created_at, updated_at) VALUES (?, ?, ?, 0, 0, ?, ?)",
+                tweets);
+    }
+}
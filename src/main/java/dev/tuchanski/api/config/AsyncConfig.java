@@ -0,0 +1,10 @@
+package dev.tuchanski.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// @Async methods run on Spring Boot's applicationTaskExecutor, which uses virtual threads when spring.threads.virtual.enabled=true.
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
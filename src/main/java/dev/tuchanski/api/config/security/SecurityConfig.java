@@ -1,8 +1,11 @@
 package dev.tuchanski.api.config.security;
 
+import dev.tuchanski.api.infra.security.BoundedPasswordEncoder;
 import dev.tuchanski.api.infra.security.SecurityFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -26,6 +29,9 @@ public class SecurityConfig {
 
     private final SecurityFilter securityFilter;
 
+    @Value("${management.server.port}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
@@ -35,13 +41,25 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(
                         auth -> auth
+                                // Async dispatches resume a request that was already authorized (streaming exports).
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                 .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
                                 .requestMatchers(HttpMethod.POST, "/api/auth/register").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/api/auth/refresh").permitAll()
+                                .requestMatchers(HttpMethod.POST, "/api/auth/logout").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/tweets").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/tweets/username/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/tweets/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/comments/**").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/users/**").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/api/search").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/api/hashtags/**").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                                // Scrapers cannot refresh tokens, so the endpoint is open on the internal management port only.
+                                .requestMatchers(request -> request.getLocalPort() == managementPort
+                                        && HttpMethod.GET.matches(request.getMethod())
+                                        && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                 .requestMatchers(
                                         "/v3/api-docs/**",
                                         "/swagger-ui/**",
@@ -60,8 +78,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${api.security.password.bcrypt-strength}") int strength,
+                                           @Value("${api.security.password.hashing-threads}") int threads,
+                                           @Value("${api.security.password.hashing-queue-capacity}") int queueCapacity) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity);
     }
 
 }
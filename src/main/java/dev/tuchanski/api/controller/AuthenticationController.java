@@ -2,10 +2,11 @@ package dev.tuchanski.api.controller;
 
 import dev.tuchanski.api.dto.auth.LoginRequestDTO;
 import dev.tuchanski.api.dto.auth.LoginResponseDTO;
+import dev.tuchanski.api.dto.auth.RefreshRequestDTO;
 import dev.tuchanski.api.dto.user.UserRequestDTO;
 import dev.tuchanski.api.dto.user.UserResponseDTO;
 import dev.tuchanski.api.entity.User;
-import dev.tuchanski.api.service.auth.TokenService;
+import dev.tuchanski.api.service.auth.RefreshTokenService;
 import dev.tuchanski.api.service.user.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -30,7 +31,7 @@ public class AuthenticationController {
 
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
-    private final TokenService tokenService;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/login")
     @Operation(summary = "Authenticate user and obtain JWT token",
@@ -43,11 +44,30 @@ public class AuthenticationController {
         var usernamePassword = new UsernamePasswordAuthenticationToken(loginRequestDTO.username(), loginRequestDTO.password());
         var auth = authenticationManager.authenticate(usernamePassword);
 
-        var token = tokenService.generateToken((User) auth.getPrincipal());
-        var id = ((User) auth.getPrincipal()).getId();
-        var username = ((User) auth.getPrincipal()).getUsername();
+        return ResponseEntity.status(HttpStatus.OK).body(refreshTokenService.issue((User) auth.getPrincipal()));
+    }
 
-        return ResponseEntity.status(HttpStatus.OK).body(new LoginResponseDTO(token, id, username));
+    @PostMapping("/refresh")
+    @Operation(summary = "Renew tokens with a refresh token",
+            description = "Exchanges a refresh token for a new access token and a new refresh token. Each refresh token can be used once; reusing one revokes all tokens issued from the same login.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tokens renewed"),
+            @ApiResponse(responseCode = "401", description = "Refresh token invalid, expired, revoked or already used")
+    })
+    public ResponseEntity<LoginResponseDTO> refresh(@Valid @RequestBody RefreshRequestDTO refreshRequestDTO) {
+        return ResponseEntity.status(HttpStatus.OK).body(refreshTokenService.refresh(refreshRequestDTO.refreshToken()));
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "Revoke a refresh token",
+            description = "Revokes the refresh token and every token issued from the same login. Access tokens stay valid until they expire.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Refresh token revoked"),
+            @ApiResponse(responseCode = "401", description = "Refresh token invalid or expired")
+    })
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshRequestDTO refreshRequestDTO) {
+        refreshTokenService.revoke(refreshRequestDTO.refreshToken());
+        return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/register")
@@ -2,18 +2,20 @@ package dev.tuchanski.api.controller;
 
 import dev.tuchanski.api.dto.comment.CommentRequestDTO;
 import dev.tuchanski.api.dto.comment.CommentResponseDTO;
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import dev.tuchanski.api.infra.http.ETags;
 import dev.tuchanski.api.service.comment.CommentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -41,39 +43,52 @@ public class CommentController {
     }
 
     @GetMapping("/comments/{id}")
-    @Operation(summary = "Get comment by id", description = "Retrieves a single comment by its UUID.")
+    @Operation(summary = "Get comment by id", description = "Retrieves a single comment by its UUID. Send the returned ETag in If-None-Match to get 304 while the comment and its author's username are unchanged.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Comment found"),
+            @ApiResponse(responseCode = "304", description = "Comment not modified"),
             @ApiResponse(responseCode = "404", description = "Comment not found")
     })
-    public ResponseEntity<CommentResponseDTO> findById(@PathVariable UUID id) {
-        return ResponseEntity.status(HttpStatus.OK).body(commentService.findById(id));
+    public ResponseEntity<CommentResponseDTO> findById(@PathVariable UUID id, WebRequest request) {
+        String eTag = commentService.findETag(id);
+
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(commentService.findById(id));
     }
 
     @GetMapping("/tweets/{tweetId}/comments")
-    @Operation(summary = "List comments for tweet", description = "Returns all comments for a tweet ordered by creation time descending.")
+    @Operation(summary = "List comments for tweet", description = "Returns a page of comments for a tweet ordered by creation time descending.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Comments returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
             @ApiResponse(responseCode = "404", description = "Tweet not found")
     })
-    public ResponseEntity<List<CommentResponseDTO>> findByTweetId(@PathVariable UUID tweetId) {
-        return ResponseEntity.status(HttpStatus.OK).body(commentService.findByTweetIdOrderByCreatedAtDesc(tweetId));
+    public ResponseEntity<CursorPageResponseDTO<CommentResponseDTO>> findByTweetId(@PathVariable UUID tweetId,
+                                                                                   @RequestParam(required = false) String cursor,
+                                                                                   @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(commentService.findByTweetIdOrderByCreatedAtDesc(tweetId, cursor, size));
     }
 
     @PutMapping("/comments/{id}")
-    @Operation(summary = "Update a comment", description = "Updates the content of an existing comment.",
+    @Operation(summary = "Update a comment", description = "Updates the content of an existing comment. Send the comment's ETag in If-Match to reject the edit with 412 if the comment changed since it was read.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Comment updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid input"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
-            @ApiResponse(responseCode = "404", description = "Comment not found")
+            @ApiResponse(responseCode = "404", description = "Comment not found"),
+            @ApiResponse(responseCode = "412", description = "Comment was modified concurrently")
     })
     public ResponseEntity<CommentResponseDTO> update(@RequestHeader("Authorization") String token,
+                                                     @RequestHeader(value = "If-Match", required = false) String ifMatch,
                                                      @PathVariable UUID id,
                                                      @RequestBody CommentRequestDTO commentRequestDTO) {
         token = token.replace("Bearer ", "");
-        return ResponseEntity.status(HttpStatus.OK).body(commentService.update(token, id, commentRequestDTO));
+        CommentResponseDTO comment = commentService.update(token, id, commentRequestDTO, ifMatch);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.of(comment)).body(comment);
     }
 
     @DeleteMapping("/comments/{id}")
@@ -1,6 +1,7 @@
 package dev.tuchanski.api.controller;
 
 import dev.tuchanski.api.dto.follow.FollowResponseDTO;
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
 import dev.tuchanski.api.service.follow.FollowService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -12,8 +13,6 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
@@ -36,23 +35,29 @@ public class FollowController {
     }
 
     @GetMapping("/users/{username}/following")
-    @Operation(summary = "List following", description = "Lists all users the specified username is following.")
+    @Operation(summary = "List following", description = "Lists a page of users the specified username is following, most recent first.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<List<FollowResponseDTO>> getFollowing(@PathVariable String username) {
-        return ResponseEntity.status(HttpStatus.OK).body(followService.getFollowing(username));
+    public ResponseEntity<CursorPageResponseDTO<FollowResponseDTO>> getFollowing(@PathVariable String username,
+                                                                                 @RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(followService.getFollowing(username, cursor, size));
     }
 
     @GetMapping("/users/{username}/followers")
-    @Operation(summary = "List followers", description = "Lists all users that follow the specified username.")
+    @Operation(summary = "List followers", description = "Lists a page of users that follow the specified username, most recent first.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<List<FollowResponseDTO>> getFollowers(@PathVariable String username) {
-        return ResponseEntity.status(HttpStatus.OK).body(followService.getFollowers(username));
+    public ResponseEntity<CursorPageResponseDTO<FollowResponseDTO>> getFollowers(@PathVariable String username,
+                                                                                 @RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(followService.getFollowers(username, cursor, size));
     }
 
     @DeleteMapping("/users/{usernameUnfollowTarget}/follow")
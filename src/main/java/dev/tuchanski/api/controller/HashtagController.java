@@ -0,0 +1,33 @@
+package dev.tuchanski.api.controller;
+
+import dev.tuchanski.api.dto.hashtag.TrendingHashtagDTO;
+import dev.tuchanski.api.service.tag.TweetTagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/hashtags")
+@RequiredArgsConstructor
+@Tag(name = "Hashtags", description = "Trending hashtags. Tweets with a hashtag are listed by the tweets endpoint.")
+public class HashtagController {
+
+    private final TweetTagService tweetTagService;
+
+    @GetMapping("/trending")
+    @Operation(summary = "Trending hashtags", description = "Returns the most used hashtags of the recent window with their approximate use counts, most used first. Refreshed every second.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Trending hashtags returned")
+    })
+    public ResponseEntity<List<TrendingHashtagDTO>> findTrending(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(tweetTagService.findTrending(limit));
+    }
+
+}
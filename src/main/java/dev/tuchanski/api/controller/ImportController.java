@@ -0,0 +1,58 @@
+package dev.tuchanski.api.controller;
+
+import dev.tuchanski.api.dto.importer.ImportJobResponseDTO;
+import dev.tuchanski.api.service.importer.ImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/admin/imports")
+@RequiredArgsConstructor
+@Tag(name = "Imports", description = "Bulk loading of users, tweets, likes and follows (admin).")
+public class ImportController {
+
+    private final ImportService importService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Run bulk import (admin)", description = "Imports newline-delimited JSON, one {\"type\", \"data\"} object per line with type user, tweet or follow, in chunked transactions. " +
+            "Invalid lines are counted and skipped. Pass jobId to resume a failed or interrupted import with the same input; lines already committed are skipped.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import finished; the job status tells whether it completed or failed"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Import job not found"),
+            @ApiResponse(responseCode = "409", description = "Import job is still running")
+    })
+    public ResponseEntity<ImportJobResponseDTO> importNdjson(@RequestParam(required = false) UUID jobId, InputStream body) {
+        return ResponseEntity.status(HttpStatus.OK).body(importService.importNdjson(body, jobId));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{id}")
+    @Operation(summary = "Get import progress (admin)", description = "Returns the committed line count, imported rows and rejected lines of an import job.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Import job found"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "Import job not found")
+    })
+    public ResponseEntity<ImportJobResponseDTO> getJob(@PathVariable UUID id) {
+        return ResponseEntity.status(HttpStatus.OK).body(importService.getJob(id));
+    }
+
+}
@@ -1,6 +1,7 @@
 package dev.tuchanski.api.controller;
 
 import dev.tuchanski.api.dto.like.LikeResponseDTO;
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
 import dev.tuchanski.api.service.like.LikeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -12,7 +13,6 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -47,23 +47,29 @@ public class LikeController {
     }
 
     @GetMapping("/tweets/{tweetId}/likes")
-    @Operation(summary = "List likes of tweet", description = "Lists all likes associated with a specific tweet.")
+    @Operation(summary = "List likes of tweet", description = "Lists a page of likes associated with a specific tweet, newest first.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
             @ApiResponse(responseCode = "404", description = "Tweet not found")
     })
-    public ResponseEntity<List<LikeResponseDTO>> findAllByTweet(@PathVariable UUID tweetId) {
-        return ResponseEntity.status(HttpStatus.OK).body(likeService.findAllByTweet(tweetId));
+    public ResponseEntity<CursorPageResponseDTO<LikeResponseDTO>> findAllByTweet(@PathVariable UUID tweetId,
+                                                                                 @RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(likeService.findAllByTweet(tweetId, cursor, size));
     }
 
     @GetMapping("/users/{username}/likes")
-    @Operation(summary = "List likes by user", description = "Lists all likes performed by the specified user.")
+    @Operation(summary = "List likes by user", description = "Lists a page of likes performed by the specified user, newest first.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<List<LikeResponseDTO>> findAllByUser(@PathVariable String username) {
-        return ResponseEntity.status(HttpStatus.OK).body(likeService.findAllByUser(username));
+    public ResponseEntity<CursorPageResponseDTO<LikeResponseDTO>> findAllByUser(@PathVariable String username,
+                                                                                @RequestParam(required = false) String cursor,
+                                                                                @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(likeService.findAllByUser(username, cursor, size));
     }
 
     @DeleteMapping("/tweets/{tweetId}/likes")
@@ -0,0 +1,52 @@
+package dev.tuchanski.api.controller;
+
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import dev.tuchanski.api.dto.search.SearchResultDTO;
+import dev.tuchanski.api.service.search.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Full-text search over tweets and comments.")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping
+    @Operation(summary = "Search tweets and comments", description = "Returns tweets and comments containing every word of q, ranked by relevance and recency. Pass the returned nextCursor to fetch the next page.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Results returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<CursorPageResponseDTO<SearchResultDTO>> search(@RequestParam String q,
+                                                                         @RequestParam(required = false) String cursor,
+                                                                         @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(searchService.search(q, cursor, size));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild search index (admin)", description = "Reindexes every tweet and comment from the database in the background. Searches keep using the current index until the rebuild finishes.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Rebuild started"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "409", description = "A rebuild is already running")
+    })
+    public ResponseEntity<Void> rebuild() {
+        searchService.rebuild();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+
+}
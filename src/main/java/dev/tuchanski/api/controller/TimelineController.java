@@ -0,0 +1,39 @@
+package dev.tuchanski.api.controller;
+
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import dev.tuchanski.api.dto.tweet.TweetResponseDTO;
+import dev.tuchanski.api.service.timeline.TimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+@RestController
+@RequestMapping("/api/timeline")
+@RequiredArgsConstructor
+@Tag(name = "Timeline", description = "Home timeline built from the tweets of followed users.")
+public class TimelineController {
+
+    private final TimelineService timelineService;
+
+    @GetMapping
+    @Operation(summary = "Get home timeline", description = "Returns the most recent tweets from the authenticated user and the accounts they follow.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Timeline returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<CursorPageResponseDTO<TweetResponseDTO>> getHomeTimeline(@RequestHeader("Authorization") String token,
+                                                                                   @RequestParam(required = false) String cursor,
+                                                                                   @RequestParam(defaultValue = "20") int size) {
+        token = token.replace("Bearer ", "");
+        return ResponseEntity.status(HttpStatus.OK).body(timelineService.getHomeTimeline(token, cursor, size));
+    }
+
+}
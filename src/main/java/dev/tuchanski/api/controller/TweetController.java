@@ -1,5 +1,7 @@
 package dev.tuchanski.api.controller;
 
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import dev.tuchanski.api.dto.tweet.TaggedTweetDTO;
 import dev.tuchanski.api.dto.tweet.TweetRequestDTO;
 import dev.tuchanski.api.dto.tweet.TweetResponseDTO;
 import dev.tuchanski.api.service.tweet.TweetService;
@@ -8,13 +10,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -39,41 +41,67 @@ public class TweetController {
     }
 
     @GetMapping
-    @Operation(summary = "List tweets", description = "Lists all tweets or only those from a specific username if provided.")
+    @Operation(summary = "List tweets", description = "Lists tweets newest first, or only those from a specific username, with a hashtag, or mentioning a username if provided. Pass the returned nextCursor to fetch the next page.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Tweets returned")
+            @ApiResponse(responseCode = "200", description = "Tweets returned"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<List<TweetResponseDTO>> findAll(@RequestParam(required = false) String username) {
+    public ResponseEntity<CursorPageResponseDTO<TweetResponseDTO>> findAll(@RequestParam(required = false) String username,
+                                                                           @RequestParam(required = false) String hashtag,
+                                                                           @RequestParam(required = false) String mentioning,
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") int size) {
+
+        if (hashtag != null) {
+            return ResponseEntity.status(HttpStatus.OK).body(tweetService.findAllByHashtag(hashtag, cursor, size));
+        }
+
+        if (mentioning != null) {
+            return ResponseEntity.status(HttpStatus.OK).body(tweetService.findAllMentioning(mentioning, cursor, size));
+        }
 
         if (username == null) {
-            return ResponseEntity.status(HttpStatus.OK).body(tweetService.findAll());
+            return ResponseEntity.status(HttpStatus.OK).body(tweetService.findAll(cursor, size));
         }
 
-        return ResponseEntity.status(HttpStatus.OK).body(tweetService.findAllByUsername(username));
+        return ResponseEntity.status(HttpStatus.OK).body(tweetService.findAllByUsername(username, cursor, size));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get tweet by id", description = "Retrieves a specific tweet by its UUID.")
+    @Operation(summary = "Get tweet by id", description = "Retrieves a specific tweet by its UUID with a preview of its latest comments, or every comment when allComments is true. Send the returned ETag in If-None-Match to get 304 while the tweet, its counters and its comments are unchanged; the 304 is decided from the tweet row alone, or from the cached preview.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Tweet found"),
+            @ApiResponse(responseCode = "304", description = "Tweet not modified"),
             @ApiResponse(responseCode = "404", description = "Tweet not found")
     })
-    public ResponseEntity<TweetResponseDTO> findById(@PathVariable UUID id) {
-        return ResponseEntity.status(HttpStatus.OK).body(tweetService.findById(id));
+    public ResponseEntity<TweetResponseDTO> findById(@PathVariable UUID id, @RequestParam(defaultValue = "false") boolean allComments, WebRequest request) {
+        String eTag = tweetService.findETag(id, allComments);
+
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(tweetService.findById(id, allComments));
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Update tweet", description = "Updates the content of an existing tweet.",
+    @Operation(summary = "Update tweet", description = "Updates the content of an existing tweet. Send the tweet's ETag in If-Match to reject the edit with 412 if the tweet was edited since it was read.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Tweet updated"),
             @ApiResponse(responseCode = "400", description = "Validation error"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
-            @ApiResponse(responseCode = "404", description = "Tweet not found")
+            @ApiResponse(responseCode = "404", description = "Tweet not found"),
+            @ApiResponse(responseCode = "412", description = "Tweet was modified concurrently")
     })
-    public ResponseEntity<TweetResponseDTO> update(@RequestHeader("Authorization") String token, @PathVariable UUID id, @Valid @RequestBody TweetRequestDTO tweetRequestDTO) {
+    public ResponseEntity<TweetResponseDTO> update(@RequestHeader("Authorization") String token,
+                                                   @RequestHeader(value = "If-Match", required = false) String ifMatch,
+                                                   @PathVariable UUID id,
+                                                   @Valid @RequestBody TweetRequestDTO tweetRequestDTO) {
         token = token.replace("Bearer ", "");
-        return ResponseEntity.status(HttpStatus.OK).body(tweetService.update(token, id, tweetRequestDTO));
+        TaggedTweetDTO tweet = tweetService.update(token, id, tweetRequestDTO, ifMatch);
+        return ResponseEntity.status(HttpStatus.OK).eTag(tweet.eTag()).body(tweet.tweet());
     }
 
     @DeleteMapping("/{id}")
@@ -1,5 +1,6 @@
 package dev.tuchanski.api.controller;
 
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
 import dev.tuchanski.api.dto.user.UserRequestDTO;
 import dev.tuchanski.api.dto.user.UserResponseDTO;
 import dev.tuchanski.api.dto.user.UserUpdateDTO;
@@ -10,13 +11,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -43,15 +44,16 @@ public class UserController {
 
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    @Operation(summary = "List all users (admin)", description = "Returns all registered users. Only accessible to admins.",
+    @Operation(summary = "List all users (admin)", description = "Returns a page of registered users, newest first. Only accessible to admins.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Users returned"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden")
     })
-    public ResponseEntity<List<UserResponseDTO>> findAll() {
-        return ResponseEntity.status(HttpStatus.OK).body(userService.findAll());
+    public ResponseEntity<CursorPageResponseDTO<UserResponseDTO>> findAll(@RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(userService.findAll(cursor, size));
     }
 
     @PreAuthorize("hasRole('ADMIN') or #username == principal.username")
@@ -60,12 +62,19 @@ public class UserController {
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "User found"),
+            @ApiResponse(responseCode = "304", description = "User not modified"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<UserResponseDTO> findByUsername(@PathVariable String username) {
-        return ResponseEntity.status(HttpStatus.OK).body(userService.findByUsername(username));
+    public ResponseEntity<UserResponseDTO> findByUsername(@PathVariable String username, WebRequest request) {
+        String eTag = userService.findETagByUsername(username);
+
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(userService.findByUsername(username));
     }
 
     @PreAuthorize("hasRole('ADMIN') or #id == principal.id")
@@ -74,12 +83,19 @@ public class UserController {
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "User found"),
+            @ApiResponse(responseCode = "304", description = "User not modified"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<UserResponseDTO> findById(@PathVariable UUID id) {
-        return ResponseEntity.status(HttpStatus.OK).body(userService.findById(id));
+    public ResponseEntity<UserResponseDTO> findById(@PathVariable UUID id, WebRequest request) {
+        String eTag = userService.findETag(id);
+
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(userService.findById(id));
     }
 
     @PreAuthorize("hasRole('ADMIN') or #id == principal.id")
@@ -99,17 +115,18 @@ public class UserController {
 
     @PreAuthorize("hasRole('ADMIN') or #id == principal.id")
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete user", description = "Deletes a user account. Accessible to admins or the user himself.",
+    @Operation(summary = "Delete user", description = "Deletes a user account. Accessible to admins or the user himself. " +
+            "The account can no longer sign in once this returns; its tweets, comments, likes and follows are removed in the background.",
             security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses({
-            @ApiResponse(responseCode = "204", description = "User deleted"),
+            @ApiResponse(responseCode = "202", description = "User deletion started"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
     public ResponseEntity<Void> delete(@PathVariable UUID id) {
         userService.delete(id);
-        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
     }
 
     @PreAuthorize("hasRole('ADMIN')")
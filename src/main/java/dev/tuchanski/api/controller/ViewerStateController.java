@@ -0,0 +1,39 @@
+package dev.tuchanski.api.controller;
+
+import dev.tuchanski.api.dto.viewer.ViewerStateRequestDTO;
+import dev.tuchanski.api.dto.viewer.ViewerStateResponseDTO;
+import dev.tuchanski.api.service.viewer.ViewerStateService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+@RestController
+@RequestMapping("/api/viewer")
+@RequiredArgsConstructor
+@Tag(name = "Viewer state", description = "Batch lookups of the authenticated user's relationship to tweets and users.")
+public class ViewerStateController {
+
+    private final ViewerStateService viewerStateService;
+
+    @PostMapping("/state")
+    @Operation(summary = "Get viewer state", description = "Returns which of the given tweets the authenticated user has liked and which of the given usernames they follow.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Viewer state returned"),
+            @ApiResponse(responseCode = "400", description = "Validation error"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<ViewerStateResponseDTO> getViewerState(@RequestHeader("Authorization") String token,
+                                                                 @Valid @RequestBody ViewerStateRequestDTO viewerStateRequestDTO) {
+        token = token.replace("Bearer ", "");
+        return ResponseEntity.status(HttpStatus.OK).body(viewerStateService.getViewerState(token, viewerStateRequestDTO));
+    }
+
+}
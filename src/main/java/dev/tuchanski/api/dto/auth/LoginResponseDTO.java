@@ -4,6 +4,7 @@ import java.util.UUID;
 
 public record LoginResponseDTO(
         String token,
+        String refreshToken,
         UUID id,
         String username
 ) {
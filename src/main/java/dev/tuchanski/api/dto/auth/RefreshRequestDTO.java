@@ -0,0 +1,8 @@
+package dev.tuchanski.api.dto.auth;
+
+import jakarta.validation.constraints.NotEmpty;
+
+public record RefreshRequestDTO(
+        @NotEmpty(message = "Refresh token is mandatory") String refreshToken
+) {
+}
@@ -9,6 +9,7 @@ public record CommentResponseDTO(
         Date createdAt,
         Date updatedAt,
         String username,
-        UUID tweetId
+        UUID tweetId,
+        long version
 ) {
 }
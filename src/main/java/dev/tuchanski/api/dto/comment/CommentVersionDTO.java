@@ -0,0 +1,13 @@
+package dev.tuchanski.api.dto.comment;
+
+import java.util.Date;
+import java.util.UUID;
+
+// What a comment response's ETag is computed from; the author's username, so a rename changes the tag.
+public record CommentVersionDTO(
+        UUID id,
+        long version,
+        Date updatedAt,
+        String username
+) {
+}
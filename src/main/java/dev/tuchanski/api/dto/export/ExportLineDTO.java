@@ -0,0 +1,8 @@
+package dev.tuchanski.api.dto.export;
+
+// One NDJSON line of an account export: {"type": "tweet" | "like" | "following", "data": {...}}
+public record ExportLineDTO(
+        String type,
+        Object data
+) {
+}
@@ -0,0 +1,9 @@
+package dev.tuchanski.api.dto.export;
+
+import java.util.Date;
+
+public record FollowExportDTO(
+        String username,
+        Date createdAt
+) {
+}
@@ -0,0 +1,10 @@
+package dev.tuchanski.api.dto.export;
+
+import java.util.Date;
+import java.util.UUID;
+
+public record LikeExportDTO(
+        UUID tweetId,
+        Date createdAt
+) {
+}
@@ -0,0 +1,7 @@
+package dev.tuchanski.api.dto.hashtag;
+
+public record TrendingHashtagDTO(
+        String tag,
+        long count
+) {
+}
@@ -0,0 +1,9 @@
+package dev.tuchanski.api.dto.importer;
+
+import jakarta.validation.constraints.NotEmpty;
+
+public record FollowImportDTO(
+        @NotEmpty(message = "Follower is mandatory") String follower,
+        @NotEmpty(message = "Followed is mandatory") String followed
+) {
+}
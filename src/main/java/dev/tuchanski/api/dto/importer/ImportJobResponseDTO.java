@@ -0,0 +1,18 @@
+package dev.tuchanski.api.dto.importer;
+
+import dev.tuchanski.api.entity.enums.ImportStatus;
+
+import java.util.Date;
+import java.util.UUID;
+
+public record ImportJobResponseDTO(
+        UUID id,
+        ImportStatus status,
+        long committedLines,
+        long importedRows,
+        long rejectedLines,
+        String lastError,
+        Date createdAt,
+        Date updatedAt
+) {
+}
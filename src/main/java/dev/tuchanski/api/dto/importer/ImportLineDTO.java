@@ -0,0 +1,10 @@
+package dev.tuchanski.api.dto.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+// One NDJSON input line; data is bound to the DTO matching type once the type is known.
+public record ImportLineDTO(
+        String type,
+        JsonNode data
+) {
+}
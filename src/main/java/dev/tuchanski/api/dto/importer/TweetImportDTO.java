@@ -0,0 +1,13 @@
+package dev.tuchanski.api.dto.importer;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TweetImportDTO(
+        @NotEmpty(message = "Username is mandatory") String username,
+        @NotEmpty(message = "Content is mandatory") @Size(min = 1, max = 255) String content,
+        List<@NotEmpty(message = "Liking username must not be empty") String> likedBy
+) {
+}
@@ -0,0 +1,15 @@
+package dev.tuchanski.api.dto.importer;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import org.hibernate.validator.constraints.Length;
+
+public record UserImportDTO(
+        @NotEmpty(message = "Name is mandatory") @Length(min = 1, max = 30, message = "Name must be between 1 and 30 characters") String name,
+        @NotEmpty(message = "Username is mandatory") @Length(min = 4, max = 12, message = "Username must be between 4 and 12 characters") String username,
+        @NotEmpty(message = "E-mail is mandatory") @Email(message = "E-mail is not valid") @Length(max = 255, message = "E-mail must be at most 255 characters") String email,
+        @NotEmpty(message = "Password hash is mandatory") @Pattern(regexp = "^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$", message = "Password hash must be a BCrypt hash") String passwordHash,
+        @Length(max = 255, message = "Bio must be at most 255 characters") String bio
+) {
+}
@@ -0,0 +1,9 @@
+package dev.tuchanski.api.dto.page;
+
+import java.util.List;
+
+public record CursorPageResponseDTO<T>(
+        List<T> content,
+        String nextCursor
+) {
+}
@@ -0,0 +1,14 @@
+package dev.tuchanski.api.dto.search;
+
+import java.util.Date;
+import java.util.UUID;
+
+public record SearchResultDTO(
+        String type,
+        UUID id,
+        UUID tweetId,
+        String content,
+        String username,
+        Date createdAt
+) {
+}
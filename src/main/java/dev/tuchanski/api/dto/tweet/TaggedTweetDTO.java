@@ -0,0 +1,9 @@
+package dev.tuchanski.api.dto.tweet;
+
+// A tweet response with the ETag of the state it was rendered from, kept together so a cached or
+// freshly written response is never paired with a tag computed from a different state.
+public record TaggedTweetDTO(
+        String eTag,
+        TweetResponseDTO tweet
+) {
+}
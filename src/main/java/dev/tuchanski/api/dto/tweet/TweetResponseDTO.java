@@ -12,6 +12,9 @@ public record TweetResponseDTO(
         Date createdAt,
         Date updatedAt,
         String username,
+        long likeCount,
+        long commentCount,
+        long version,
         List<CommentResponseDTO> comments
 ){
 }
@@ -0,0 +1,17 @@
+package dev.tuchanski.api.dto.tweet;
+
+import java.util.Date;
+import java.util.UUID;
+
+// Read-only tweet row selected with a JPQL constructor expression; never managed by the persistence context.
+public record TweetRowDTO(
+        UUID id,
+        String content,
+        Date createdAt,
+        Date updatedAt,
+        String username,
+        long likeCount,
+        long commentCount,
+        long version
+) {
+}
@@ -0,0 +1,17 @@
+package dev.tuchanski.api.dto.tweet;
+
+import java.util.Date;
+import java.util.UUID;
+
+// What a tweet response's ETag is computed from: columns of the tweet row and its author, read by
+// primary key. commentsVersion stands in for the comments, so they are never read for a tag.
+public record TweetVersionDTO(
+        UUID id,
+        long version,
+        Date updatedAt,
+        String username,
+        long likeCount,
+        long commentCount,
+        long commentsVersion
+) {
+}
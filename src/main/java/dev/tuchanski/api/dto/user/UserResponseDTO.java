@@ -11,6 +11,8 @@ public record UserResponseDTO(
         String username,
         String email,
         String bio,
-        UserRole userRole
+        UserRole userRole,
+        long followerCount,
+        long followingCount
 ) {
 }
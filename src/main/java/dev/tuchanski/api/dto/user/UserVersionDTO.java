@@ -0,0 +1,14 @@
+package dev.tuchanski.api.dto.user;
+
+import java.util.Date;
+import java.util.UUID;
+
+// What a user response's ETag is computed from. The counters are written with bulk updates, which do
+// not touch updatedAt.
+public record UserVersionDTO(
+        UUID id,
+        Date updatedAt,
+        long followerCount,
+        long followingCount
+) {
+}
@@ -0,0 +1,12 @@
+package dev.tuchanski.api.dto.viewer;
+
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ViewerStateRequestDTO(
+        @Size(max = 100, message = "At most 100 tweet ids per request") List<UUID> tweetIds,
+        @Size(max = 100, message = "At most 100 usernames per request") List<String> usernames
+) {
+}
@@ -0,0 +1,10 @@
+package dev.tuchanski.api.dto.viewer;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record ViewerStateResponseDTO(
+        Set<UUID> likedTweetIds,
+        Set<String> followedUsernames
+) {
+}
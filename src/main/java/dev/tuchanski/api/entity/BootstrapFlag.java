@@ -0,0 +1,27 @@
+package dev.tuchanski.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Date;
+
+/**
+ * One-time events that have already happened, keyed by name. The primary key makes claiming
+ * a flag atomic, e.g. only one registration can become the first admin.
+ */
+@Entity
+@Table(name = "bootstrap_flags")
+@Getter @Setter @AllArgsConstructor @NoArgsConstructor
+public class BootstrapFlag {
+
+    public static final String FIRST_ADMIN = "FIRST_ADMIN";
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false, updatable = false, name = "created_at")
+    private Date createdAt;
+
+}
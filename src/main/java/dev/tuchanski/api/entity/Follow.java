@@ -1,17 +1,19 @@
 package dev.tuchanski.api.entity;
 
+import dev.tuchanski.api.infra.id.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.Date;
 import java.util.UUID;
 
 @Entity
-@Table(name = "follows")
+@Table(name = "follows", uniqueConstraints = @UniqueConstraint(name = "uk_follows_follower_followed", columnNames = {"follower_id", "followed_id"}))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -19,7 +21,7 @@ import java.util.UUID;
 public class Follow {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     private UUID id;
 
     @CreationTimestamp
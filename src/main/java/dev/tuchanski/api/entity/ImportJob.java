@@ -0,0 +1,55 @@
+package dev.tuchanski.api.entity;
+
+import dev.tuchanski.api.entity.enums.ImportStatus;
+import dev.tuchanski.api.infra.id.UuidV7Generator;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Progress of a bulk import. Counters are updated in the same transaction as each chunk, so
+ * committedLines is exactly the number of input lines whose rows are in the database and a
+ * resumed import can skip them.
+ */
+@Entity
+@Table(name = "import_jobs")
+@Getter @Setter @AllArgsConstructor @NoArgsConstructor
+public class ImportJob {
+
+    @Id
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Setter(AccessLevel.NONE)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportStatus status;
+
+    @Column(nullable = false, name = "committed_lines")
+    private long committedLines;
+
+    @Column(nullable = false, name = "imported_rows")
+    private long importedRows;
+
+    @Column(nullable = false, name = "rejected_lines")
+    private long rejectedLines;
+
+    @Column(length = 1000, name = "last_error")
+    private String lastError;
+
+    @CreationTimestamp
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false, updatable = false, name = "created_at")
+    private Date createdAt;
+
+    @UpdateTimestamp
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "updated_at")
+    private Date updatedAt;
+
+}
@@ -1,14 +1,16 @@
 package dev.tuchanski.api.entity;
 
+import dev.tuchanski.api.infra.id.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.util.Date;
 import java.util.UUID;
 
 @Entity
-@Table(name = "likes")
+@Table(name = "likes", uniqueConstraints = @UniqueConstraint(name = "uk_likes_user_tweet", columnNames = {"user_id", "tweet_id"}))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -16,7 +18,7 @@ import java.util.UUID;
 public class Like {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Setter(AccessLevel.NONE)
     private UUID id;
 
@@ -0,0 +1,32 @@
+package dev.tuchanski.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * A refresh token id (jti) that has been used or revoked, or a whole token family. Rows are
+ * only needed until the tokens they cover would have expired anyway.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires", columnList = "expires_at"),
+        @Index(name = "idx_revoked_tokens_family_expires", columnList = "family, expires_at")
+})
+@Getter @Setter @AllArgsConstructor @NoArgsConstructor
+public class RevokedToken {
+
+    @Id
+    private UUID id;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false, name = "expires_at")
+    private Date expiresAt;
+
+    // True for a revoked family, false for a single used token id.
+    @Column(nullable = false)
+    private boolean family;
+
+}
@@ -0,0 +1,41 @@
+package dev.tuchanski.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.UUID;
+
+@Entity
+@Table(name = "timeline_entries", indexes = {
+        @Index(name = "idx_timeline_owner_created_tweet", columnList = "owner_id, created_at, tweet_id"),
+        @Index(name = "idx_timeline_tweet", columnList = "tweet_id")
+})
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class TimelineEntry {
+
+    @EmbeddedId
+    private Key id;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false, updatable = false, name = "created_at")
+    private Date createdAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tweet_id", insertable = false, updatable = false)
+    private Tweet tweet;
+
+    @Embeddable
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "owner_id", nullable = false)
+        private UUID ownerId;
+
+        @Column(name = "tweet_id", nullable = false)
+        private UUID tweetId;
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package dev.tuchanski.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Date;
+
+// Serialized in-memory trending state, so a restart does not reset trends.
+@Entity
+@Table(name = "trending_checkpoints")
+@Getter @Setter @AllArgsConstructor @NoArgsConstructor
+public class TrendingCheckpoint {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] data;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false, name = "saved_at")
+    private Date savedAt;
+
+}
@@ -1,14 +1,14 @@
 package dev.tuchanski.api.entity;
 
+import dev.tuchanski.api.infra.id.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
-
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
 import java.util.UUID;
 
 @Entity
@@ -17,7 +17,7 @@ import java.util.UUID;
 public class Tweet {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Setter(AccessLevel.NONE)
     private UUID id;
 
@@ -37,10 +37,23 @@ public class Tweet {
     @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
-    @OneToMany(mappedBy = "tweet", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Comment> comments = new ArrayList<>();
+    // Incremented by every entity update; counters are changed by bulk statements and leave it alone.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    // Maintained only through CounterBuffer's bulk updates, never by entity flushes.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false, name = "like_count")
+    private long likeCount;
 
-    @OneToMany(mappedBy = "tweet", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Like> likes = new ArrayList<>();
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false, name = "comment_count")
+    private long commentCount;
 
+    // Bumped through CounterBuffer whenever the tweet's visible comments change; only feeds the ETag.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false, name = "comments_version")
+    private long commentsVersion;
 }
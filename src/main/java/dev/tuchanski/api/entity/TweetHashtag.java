@@ -0,0 +1,46 @@
+package dev.tuchanski.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.UUID;
+
+// created_at copies the tweet's, so listings by tag are served from idx_tweet_hashtags_tag_created alone.
+@Entity
+@Table(name = "tweet_hashtags", indexes = @Index(name = "idx_tweet_hashtags_tag_created", columnList = "tag, created_at, tweet_id"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class TweetHashtag implements Persistable<TweetHashtag.Key> {
+
+    @EmbeddedId
+    private Key id;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false, updatable = false, name = "created_at")
+    private Date createdAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tweet_id", insertable = false, updatable = false)
+    private Tweet tweet;
+
+    // Rows are only ever inserted or deleted, so saving never needs to look for an existing one.
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Embeddable
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "tweet_id", nullable = false)
+        private UUID tweetId;
+
+        @Column(nullable = false, length = 50)
+        private String tag;
+
+    }
+
+}
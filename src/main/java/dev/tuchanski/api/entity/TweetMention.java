@@ -0,0 +1,44 @@
+package dev.tuchanski.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.UUID;
+
+@Entity
+@Table(name = "tweet_mentions", indexes = @Index(name = "idx_tweet_mentions_user_created", columnList = "user_id, created_at, tweet_id"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class TweetMention implements Persistable<TweetMention.Key> {
+
+    @EmbeddedId
+    private Key id;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false, updatable = false, name = "created_at")
+    private Date createdAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tweet_id", insertable = false, updatable = false)
+    private Tweet tweet;
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Embeddable
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "tweet_id", nullable = false)
+        private UUID tweetId;
+
+        @Column(name = "user_id", nullable = false)
+        private UUID userId;
+
+    }
+
+}
@@ -2,10 +2,13 @@ package dev.tuchanski.api.entity;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.tuchanski.api.entity.enums.UserRole;
+import dev.tuchanski.api.infra.id.UuidV7Generator;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,7 +24,7 @@ import java.util.UUID;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Setter(AccessLevel.NONE)
     private UUID id;
 
@@ -54,11 +57,19 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private UserRole role;
 
-    @OneToMany(mappedBy = "follower", cascade = CascadeType.REMOVE, orphanRemoval = true)
-    private List<Follow> following;
+    // Maintained only through CounterBuffer's bulk updates, never by entity flushes.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false, name = "follower_count")
+    private long followerCount;
 
-    @OneToMany(mappedBy = "followed", cascade = CascadeType.REMOVE, orphanRemoval = true)
-    private List<Follow> followers;
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false, name = "following_count")
+    private long followingCount;
+
+    // Set when the account is deleted; its rows are then purged in the background, see AccountPurger.
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "deleted_at")
+    private Date deletedAt;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -0,0 +1,7 @@
+package dev.tuchanski.api.entity.enums;
+
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package dev.tuchanski.api.exception.auth;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.tuchanski.api.exception.edit;
+
+public class EditConflictException extends RuntimeException {
+    public EditConflictException(String message) {
+        super(message);
+    }
+}
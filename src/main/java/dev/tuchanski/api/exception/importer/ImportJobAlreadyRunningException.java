@@ -0,0 +1,7 @@
+package dev.tuchanski.api.exception.importer;
+
+public class ImportJobAlreadyRunningException extends RuntimeException {
+    public ImportJobAlreadyRunningException(String message) {
+        super(message);
+    }
+}
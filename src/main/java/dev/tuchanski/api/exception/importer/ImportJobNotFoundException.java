@@ -0,0 +1,7 @@
+package dev.tuchanski.api.exception.importer;
+
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.tuchanski.api.exception.pagination;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.tuchanski.api.exception.search;
+
+public class SearchIndexRebuildInProgressException extends RuntimeException {
+    public SearchIndexRebuildInProgressException(String message) {
+        super(message);
+    }
+}
@@ -1,22 +1,31 @@
 package dev.tuchanski.api.infra;
 
 import dev.tuchanski.api.exception.auth.InvalidTokenException;
+import dev.tuchanski.api.exception.auth.PasswordHashingBusyException;
 import dev.tuchanski.api.exception.comment.CommentNotBelongToUserException;
 import dev.tuchanski.api.exception.comment.CommentNotFoundException;
+import dev.tuchanski.api.exception.edit.EditConflictException;
 import dev.tuchanski.api.exception.follow.RelationshipAlreadyExistsException;
 import dev.tuchanski.api.exception.follow.RelationshipIsNotValidException;
 import dev.tuchanski.api.exception.follow.RelationshipNotFoundException;
+import dev.tuchanski.api.exception.importer.ImportJobAlreadyRunningException;
+import dev.tuchanski.api.exception.importer.ImportJobNotFoundException;
 import dev.tuchanski.api.exception.like.LikeAlreadyRegisteredException;
 import dev.tuchanski.api.exception.like.LikeNotFoundException;
+import dev.tuchanski.api.exception.pagination.InvalidCursorException;
+import dev.tuchanski.api.exception.search.SearchIndexRebuildInProgressException;
 import dev.tuchanski.api.exception.tweet.ContentIsTheSameException;
 import dev.tuchanski.api.exception.tweet.TweetNotBelongToUserException;
 import dev.tuchanski.api.exception.tweet.TweetNotFoundException;
 import dev.tuchanski.api.exception.user.UserAlreadyRegisteredException;
 import dev.tuchanski.api.exception.user.UserIsNotAllowedException;
 import dev.tuchanski.api.exception.user.UserNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
@@ -32,6 +41,12 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(treatedResponse);
     }
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    private ResponseEntity<RestErrorMessage> passwordHashingBusyExceptionHandler(PasswordHashingBusyException e) {
+        RestErrorMessage treatedResponse = new RestErrorMessage(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(treatedResponse);
+    }
+
     @ExceptionHandler(UsernameNotFoundException.class)
     private ResponseEntity<RestErrorMessage> usernameNotFoundExceptionHandler(UsernameNotFoundException e) {
         RestErrorMessage treatedResponse = new RestErrorMessage(HttpStatus.NOT_FOUND, e.getMessage());
@@ -92,6 +107,21 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(treatedResponse);
     }
 
+    // EDIT
+
+    @ExceptionHandler(EditConflictException.class)
+    private ResponseEntity<RestErrorMessage> editConflictExceptionHandler(EditConflictException e) {
+        RestErrorMessage treatedResponse = new RestErrorMessage(HttpStatus.PRECONDITION_FAILED, e.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(treatedResponse);
+    }
+
+    // A concurrent edit committed between reading the row and writing it back.
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    private ResponseEntity<RestErrorMessage> objectOptimisticLockingFailureExceptionHandler(ObjectOptimisticLockingFailureException e) {
+        RestErrorMessage treatedResponse = new RestErrorMessage(HttpStatus.PRECONDITION_FAILED, "It was modified by another request, reload it and try again");
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(treatedResponse);
+    }
+
     // LIKE
 
     @ExceptionHandler(LikeAlreadyRegisteredException.class)
@@ -126,4 +156,43 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(treatedResponse);
     }
 
+    // PAGINATION
+
+    @ExceptionHandler(InvalidCursorException.class)
+    private ResponseEntity<RestErrorMessage> invalidCursorExceptionHandler(InvalidCursorException e) {
+        RestErrorMessage treatedResponse = new RestErrorMessage(HttpStatus.BAD_REQUEST, e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(treatedResponse);
+    }
+
+    // IMPORT
+
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    private ResponseEntity<RestErrorMessage> importJobNotFoundExceptionHandler(ImportJobNotFoundException e) {
+        RestErrorMessage treatedResponse = new RestErrorMessage(HttpStatus.NOT_FOUND, e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(treatedResponse);
+    }
+
+    @ExceptionHandler(ImportJobAlreadyRunningException.class)
+    private ResponseEntity<RestErrorMessage> importJobAlreadyRunningExceptionHandler(ImportJobAlreadyRunningException e) {
+        RestErrorMessage treatedResponse = new RestErrorMessage(HttpStatus.CONFLICT, e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(treatedResponse);
+    }
+
+    // SEARCH
+
+    @ExceptionHandler(SearchIndexRebuildInProgressException.class)
+    private ResponseEntity<RestErrorMessage> searchIndexRebuildInProgressExceptionHandler(SearchIndexRebuildInProgressException e) {
+        RestErrorMessage treatedResponse = new RestErrorMessage(HttpStatus.CONFLICT, e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(treatedResponse);
+    }
+
+    // DATABASE
+
+    // Raised when no pooled connection became available within spring.datasource.hikari.connection-timeout.
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    private ResponseEntity<RestErrorMessage> cannotCreateTransactionExceptionHandler(CannotCreateTransactionException e) {
+        RestErrorMessage treatedResponse = new RestErrorMessage(HttpStatus.SERVICE_UNAVAILABLE, "Service is busy, try again later");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(treatedResponse);
+    }
+
 }
@@ -0,0 +1,92 @@
+package dev.tuchanski.api.infra.counter;
+
+import dev.tuchanski.api.repository.TweetRepository;
+import dev.tuchanski.api.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Write-behind accumulator for denormalized counters. Increments are merged per (counter, row) in a
+// ConcurrentHashMap, which locks per bin, and applied to the database periodically as one transaction.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterBuffer {
+
+    private final TweetRepository tweetRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Key, Long> pending = new ConcurrentHashMap<>();
+
+    // Only counts changes whose transaction actually commits.
+    public void add(CounterType type, UUID id, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    merge(new Key(type, id), delta);
+                }
+            });
+            return;
+        }
+
+        merge(new Key(type, id), delta);
+    }
+
+    @Scheduled(fixedDelayString = "${api.counters.flush-interval-ms}")
+    public void flush() {
+        Map<Key, Long> batch = new LinkedHashMap<>();
+
+        // remove() is atomic per key, so a concurrent add() either lands in this batch or in a fresh entry.
+        for (Key key : pending.keySet()) {
+            Long delta = pending.remove(key);
+            if (delta != null && delta != 0) {
+                batch.put(key, delta);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::apply));
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} counter updates, retrying on next flush", batch.size(), e);
+            batch.forEach(this::merge);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void merge(Key key, long delta) {
+        pending.merge(key, delta, Long::sum);
+    }
+
+    private void apply(Key key, long delta) {
+        switch (key.type()) {
+            case TWEET_LIKES -> tweetRepository.addToLikeCount(key.id(), delta);
+            case TWEET_COMMENTS -> tweetRepository.addToCommentCount(key.id(), delta);
+            case TWEET_COMMENTS_VERSION -> tweetRepository.addToCommentsVersion(key.id(), delta);
+            case USER_FOLLOWERS -> userRepository.addToFollowerCount(key.id(), delta);
+            case USER_FOLLOWING -> userRepository.addToFollowingCount(key.id(), delta);
+        }
+    }
+
+    private record Key(CounterType type, UUID id) {
+    }
+}
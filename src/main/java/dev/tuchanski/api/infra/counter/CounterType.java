@@ -0,0 +1,9 @@
+package dev.tuchanski.api.infra.counter;
+
+public enum CounterType {
+    TWEET_LIKES,
+    TWEET_COMMENTS,
+    TWEET_COMMENTS_VERSION,
+    USER_FOLLOWERS,
+    USER_FOLLOWING
+}
@@ -0,0 +1,81 @@
+package dev.tuchanski.api.infra.http;
+
+import dev.tuchanski.api.dto.comment.CommentResponseDTO;
+import dev.tuchanski.api.dto.comment.CommentVersionDTO;
+import dev.tuchanski.api.dto.tweet.TweetVersionDTO;
+import dev.tuchanski.api.dto.user.UserVersionDTO;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * Strong entity tags computed from the values a response is rendered from, so they never need
+ * the serialized body. Reads compute them from a narrow version projection first, so a matching
+ * If-None-Match is answered with 304 before the response is loaded at all. Edits compute them
+ * from the same projection of the written row, so their tag matches the next read's.
+ *
+ * <p>Tweet and comment tags start with the entity version ({@code "3-..."}). If-Match on an edit
+ * compares only that part: likes and comments change the rest of the tag, but do not conflict
+ * with an edit of the content.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    // commentsVersion covers the comments and their authors; the flag keeps the preview and the full
+    // representation apart.
+    public static String of(TweetVersionDTO tweet, boolean allComments) {
+        return versioned(tweet.version(), append(new StringBuilder(), tweet.id(), tweet.updatedAt(), tweet.username(),
+                tweet.likeCount(), tweet.commentCount(), tweet.commentsVersion(), allComments));
+    }
+
+    public static String of(CommentResponseDTO comment) {
+        return versioned(comment.version(), append(new StringBuilder(), comment.id(), comment.updatedAt(), comment.username()));
+    }
+
+    public static String of(CommentVersionDTO comment) {
+        return versioned(comment.version(), append(new StringBuilder(), comment.id(), comment.updatedAt(), comment.username()));
+    }
+
+    // True without an If-Match header, for "*", or when one of the listed tags carries this version.
+    // Weak tags never match, as If-Match requires strong comparison.
+    public static boolean matchesVersion(String ifMatch, long version) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return true;
+        }
+
+        String prefix = "\"" + version + "-";
+        for (String tag : ifMatch.split(",")) {
+            if (tag.trim().startsWith(prefix)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public static String of(UserVersionDTO user) {
+        return hash(append(new StringBuilder(), user.id(), user.updatedAt(), user.followerCount(), user.followingCount()));
+    }
+
+    private static StringBuilder append(StringBuilder values, Object... parts) {
+        for (Object part : parts) {
+            values.append(part instanceof Date date ? date.getTime() : part).append('\u001F');
+        }
+        return values;
+    }
+
+    private static String versioned(long version, StringBuilder values) {
+        return "\"" + version + "-" + digest(values) + "\"";
+    }
+
+    private static String hash(StringBuilder values) {
+        return "\"" + digest(values) + "\"";
+    }
+
+    private static String digest(StringBuilder values) {
+        return DigestUtils.md5DigestAsHex(values.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,44 @@
+package dev.tuchanski.api.infra.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by a 12-bit
+ * sequence (monotonic within this JVM) and 62 random bits. Stored as BINARY(16), new rows
+ * land at the tail of the clustered index instead of at random pages.
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int SEQUENCE_BITS = 12;
+
+    // (unix millis << 12) | sequence of the last id handed out
+    private static final AtomicLong LAST = new AtomicLong();
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return next();
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        // Same millisecond (or clock moved back): bump the sequence, borrowing into the timestamp on overflow.
+        long state = LAST.updateAndGet(last -> Math.max(now, last + 1));
+
+        long msb = (state >>> SEQUENCE_BITS) << 16
+                | 0x7000L
+                | (state & 0x0FFFL);
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(msb, lsb);
+    }
+
+    public static long timestamp(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+}
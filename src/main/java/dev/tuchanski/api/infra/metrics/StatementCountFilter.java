@@ -0,0 +1,71 @@
+package dev.tuchanski.api.infra.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Records how many SQL statements each request ran as api.request.statements{method, uri}. Runs
+// ahead of Spring Security, so loading the principal is counted too, and inside the observation
+// filter, so http.server.requests can be tagged with statement.budget=within|exceeded.
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+
+    // The count is left on the request for tests, see StatementCountMatchers.
+    public static final String STATEMENTS_ATTRIBUTE = StatementCountFilter.class.getName() + ".statements";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${api.statement-budget.max-per-request}")
+    private long budget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        StatementCounter.start();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long statements = StatementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            boolean exceeded = statements > budget;
+
+            request.setAttribute(STATEMENTS_ATTRIBUTE, statements);
+
+            DistributionSummary.builder("api.request.statements")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+
+            ServerHttpObservationFilter.findObservationContext(request).ifPresent(context ->
+                    context.addLowCardinalityKeyValue(KeyValue.of("statement.budget", exceeded ? "exceeded" : "within")));
+
+            if (exceeded) {
+                log.warn("{} {} ran {} SQL statements, over the budget of {}", request.getMethod(), uri, statements, budget);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package dev.tuchanski.api.infra.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts the SQL statements Hibernate prepares on the current thread between start() and stop().
+// Hibernate creates the instance (hibernate.session_factory.statement_inspector), hence the static state.
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = CURRENT.get();
+
+        if (count != null) {
+            count[0]++;
+        }
+
+        return sql;
+    }
+
+    public static void start() {
+        CURRENT.set(new long[1]);
+    }
+
+    public static long stop() {
+        long[] count = CURRENT.get();
+        CURRENT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
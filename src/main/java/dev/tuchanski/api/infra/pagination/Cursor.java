@@ -0,0 +1,34 @@
+package dev.tuchanski.api.infra.pagination;
+
+import dev.tuchanski.api.exception.pagination.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a page, ordered by {@code (created_at desc, id desc)}.
+ * Exposed to clients only as an opaque URL-safe token.
+ */
+public record Cursor(Date createdAt, UUID id) {
+
+    public String encode() {
+        String raw = createdAt.getTime() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new Cursor(new Date(Long.parseLong(raw.substring(0, separator))), UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Cursor is not valid");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dev.tuchanski.api.infra.pagination;
+
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+public final class CursorPagination {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private CursorPagination() {
+    }
+
+    public static int limit(int size) {
+        return Math.clamp(size, 1, MAX_PAGE_SIZE);
+    }
+
+    // One extra row is fetched to know whether a next page exists without a count query.
+    public static Pageable pageable(int size) {
+        return PageRequest.of(0, limit(size) + 1);
+    }
+
+    public static <E, T> CursorPageResponseDTO<T> toPage(List<E> rows,
+                                                         int size,
+                                                         Function<E, Date> createdAt,
+                                                         Function<E, UUID> id,
+                                                         Function<E, T> mapper) {
+        return toBatchPage(rows, size, createdAt, id, page -> page.stream().map(mapper).toList());
+    }
+
+    public static <E, T> CursorPageResponseDTO<T> toBatchPage(List<E> rows,
+                                                              int size,
+                                                              Function<E, Date> createdAt,
+                                                              Function<E, UUID> id,
+                                                              Function<List<E>, List<T>> mapper) {
+        int limit = limit(size);
+
+        if (rows.size() <= limit) {
+            return new CursorPageResponseDTO<>(mapper.apply(rows), null);
+        }
+
+        List<E> page = rows.subList(0, limit);
+        E last = page.get(limit - 1);
+        String nextCursor = new Cursor(createdAt.apply(last), id.apply(last)).encode();
+
+        return new CursorPageResponseDTO<>(mapper.apply(page), nextCursor);
+    }
+
+    // Mirrors the database ordering of binary(16) ids, which compares bytes unsigned.
+    public static <E> Comparator<E> newestFirst(Function<E, Date> createdAt, Function<E, UUID> id) {
+        Comparator<E> byCreatedAt = Comparator.comparing(createdAt);
+        Comparator<E> byId = (a, b) -> compareUnsigned(id.apply(a), id.apply(b));
+        return byCreatedAt.thenComparing(byId).reversed();
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
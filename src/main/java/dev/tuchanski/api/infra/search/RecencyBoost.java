@@ -0,0 +1,75 @@
+package dev.tuchanski.api.infra.search;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.DoubleValues;
+import org.apache.lucene.search.DoubleValuesSource;
+import org.apache.lucene.search.IndexSearcher;
+
+import java.io.IOException;
+import java.util.Objects;
+
+// Multiplier between 1 and 2 that halves its bonus every halfLifeMillis of age, so a new document
+// can outrank an older one that matches somewhat better, but never one that matches far better.
+final class RecencyBoost extends DoubleValuesSource {
+
+    private final String field;
+    private final long asOf;
+    private final double halfLifeMillis;
+
+    RecencyBoost(String field, long asOf, double halfLifeMillis) {
+        this.field = field;
+        this.asOf = asOf;
+        this.halfLifeMillis = halfLifeMillis;
+    }
+
+    @Override
+    public DoubleValues getValues(LeafReaderContext context, DoubleValues scores) throws IOException {
+        NumericDocValues createdAt = DocValues.getNumeric(context.reader(), field);
+
+        return new DoubleValues() {
+            @Override
+            public double doubleValue() throws IOException {
+                long age = Math.max(0, asOf - createdAt.longValue());
+                return 1 + Math.pow(0.5, age / halfLifeMillis);
+            }
+
+            @Override
+            public boolean advanceExact(int doc) throws IOException {
+                return createdAt.advanceExact(doc);
+            }
+        };
+    }
+
+    @Override
+    public boolean needsScores() {
+        return false;
+    }
+
+    @Override
+    public DoubleValuesSource rewrite(IndexSearcher searcher) {
+        return this;
+    }
+
+    @Override
+    public boolean isCacheable(LeafReaderContext context) {
+        return DocValues.isCacheable(context, field);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RecencyBoost other
+                && field.equals(other.field) && asOf == other.asOf && halfLifeMillis == other.halfLifeMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, asOf, halfLifeMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "recency(" + field + ", asOf=" + asOf + ", halfLife=" + halfLifeMillis + "ms)";
+    }
+}
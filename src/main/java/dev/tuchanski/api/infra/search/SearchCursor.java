@@ -0,0 +1,33 @@
+package dev.tuchanski.api.infra.search;
+
+import dev.tuchanski.api.exception.pagination.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last hit of a search page, ordered by {@code (score desc, created_at desc, id)}.
+ * asOf is the time recency was measured from on the first page; later pages reuse it so that
+ * scores, and therefore the ordering, do not drift while the client pages.
+ */
+public record SearchCursor(long asOf, float score, long createdAt, String id) {
+
+    public String encode() {
+        String raw = asOf + ":" + Float.floatToIntBits(score) + ":" + createdAt + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":", 4);
+            return new SearchCursor(Long.parseLong(parts[0]), Float.intBitsToFloat(Integer.parseInt(parts[1])),
+                    Long.parseLong(parts[2]), parts[3]);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Cursor is not valid");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dev.tuchanski.api.infra.search;
+
+import dev.tuchanski.api.entity.Comment;
+import dev.tuchanski.api.entity.Tweet;
+
+import java.util.Date;
+import java.util.UUID;
+
+// What the search index keeps about a tweet or comment. tweetAuthorId lets a user's deletion also drop
+// the comments others left under their tweets.
+public record SearchDocument(
+        String type,
+        UUID id,
+        UUID tweetId,
+        UUID tweetAuthorId,
+        UUID authorId,
+        String content,
+        Date createdAt
+) {
+
+    public static final String TWEET = "tweet";
+    public static final String COMMENT = "comment";
+
+    public static SearchDocument of(Tweet tweet) {
+        UUID authorId = tweet.getUser().getId();
+        return new SearchDocument(TWEET, tweet.getId(), tweet.getId(), authorId, authorId, tweet.getContent(), tweet.getCreatedAt());
+    }
+
+    public static SearchDocument of(Comment comment) {
+        Tweet tweet = comment.getTweet();
+        return new SearchDocument(COMMENT, comment.getId(), tweet.getId(), tweet.getUser().getId(), comment.getUser().getId(),
+                comment.getContent(), comment.getCreatedAt());
+    }
+}
@@ -0,0 +1,242 @@
+package dev.tuchanski.api.infra.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queries.function.FunctionScoreQuery;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Embedded Lucene index of tweet and comment text. It holds ids and text only; hits are loaded from
+ * the database, so edits to usernames or counters never make the index stale. Writes are applied
+ * after the database transaction commits, become searchable on the next refresh and durable on the
+ * next commit; anything lost in a crash in between is restored by a rebuild.
+ */
+@Slf4j
+@Component
+public class SearchIndex {
+
+    private static final String ID = "id";
+    private static final String TYPE = "type";
+    private static final String TWEET_ID = "tweetId";
+    private static final String TWEET_AUTHOR_ID = "tweetAuthorId";
+    private static final String AUTHOR_ID = "authorId";
+    private static final String CONTENT = "content";
+    private static final String CREATED_AT = "createdAt";
+
+    private static final int MAX_QUERY_TERMS = 16;
+
+    private static final Sort RANKING = new Sort(
+            SortField.FIELD_SCORE,
+            new SortField(CREATED_AT, SortField.Type.LONG, true),
+            new SortField(ID, SortField.Type.STRING));
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final FSDirectory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final double recencyHalfLifeMillis;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public SearchIndex(@Value("${api.search.index-dir}") String indexDir,
+                       @Value("${api.search.recency-half-life-hours}") double recencyHalfLifeHours) throws IOException {
+        this.directory = FSDirectory.open(Path.of(indexDir));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+        this.recencyHalfLifeMillis = recencyHalfLifeHours * 3_600_000;
+    }
+
+    public void index(SearchDocument document) {
+        afterCommit(() -> write(document));
+    }
+
+    public void delete(UUID id) {
+        afterCommit(() -> writer.deleteDocuments(new Term(ID, id.toString())));
+    }
+
+    // The tweet and every comment under it.
+    public void deleteTweet(UUID tweetId) {
+        afterCommit(() -> writer.deleteDocuments(new Term(TWEET_ID, tweetId.toString())));
+    }
+
+    // Everything the user wrote, and every comment under their tweets.
+    public void deleteUser(UUID userId) {
+        afterCommit(() -> writer.deleteDocuments(new Term(AUTHOR_ID, userId.toString()), new Term(TWEET_AUTHOR_ID, userId.toString())));
+    }
+
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    // Claims the single rebuild slot; the caller must then run rebuild(), which releases it.
+    public boolean startRebuild() {
+        return rebuilding.compareAndSet(false, true);
+    }
+
+    // Searches keep seeing the previous contents until the new ones are complete: the searcher is
+    // not refreshed (nor the index committed) while the rebuild runs.
+    public void rebuild(Consumer<Consumer<SearchDocument>> source) {
+        try {
+            long started = System.currentTimeMillis();
+            writer.deleteAll();
+            source.accept(document -> {
+                try {
+                    write(document);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.commit();
+            searcherManager.maybeRefresh();
+            log.info("Rebuilt search index with {} documents in {} ms", writer.getDocStats().numDocs, System.currentTimeMillis() - started);
+        } catch (IOException | RuntimeException e) {
+            log.error("Search index rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    // Every term must match. Hits are ranked by relevance times recency, newest first on ties.
+    public List<Hit> search(String text, SearchCursor after, int limit) throws IOException {
+        List<String> terms = analyze(text);
+
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder matchAll = new BooleanQuery.Builder();
+        terms.forEach(term -> matchAll.add(new TermQuery(new Term(CONTENT, term)), BooleanClause.Occur.MUST));
+
+        long asOf = after == null ? System.currentTimeMillis() : after.asOf();
+        Query query = FunctionScoreQuery.boostByValue(matchAll.build(), new RecencyBoost(CREATED_AT, asOf, recencyHalfLifeMillis));
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            // Ties on every sort field fall back to the doc number; the highest one excludes the cursor's own hit.
+            FieldDoc afterDoc = after == null ? null : new FieldDoc(searcher.getIndexReader().maxDoc() - 1, after.score(),
+                    new Object[]{after.score(), after.createdAt(), new BytesRef(after.id())});
+            TopFieldDocs top = searcher.searchAfter(afterDoc, query, limit, RANKING, true);
+            StoredFields storedFields = searcher.storedFields();
+            List<Hit> hits = new ArrayList<>(top.scoreDocs.length);
+
+            for (ScoreDoc scoreDoc : top.scoreDocs) {
+                FieldDoc fieldDoc = (FieldDoc) scoreDoc;
+                Document document = storedFields.document(fieldDoc.doc, Set.of(ID, TYPE));
+                SearchCursor position = new SearchCursor(asOf, fieldDoc.score, (Long) fieldDoc.fields[1], ((BytesRef) fieldDoc.fields[2]).utf8ToString());
+                hits.add(new Hit(document.get(TYPE), UUID.fromString(document.get(ID)), position));
+            }
+
+            return hits;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${api.search.refresh-interval-ms}")
+    public void refresh() throws IOException {
+        if (!rebuilding.get()) {
+            searcherManager.maybeRefresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${api.search.commit-interval-ms}")
+    public void commit() throws IOException {
+        if (!rebuilding.get() && writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void write(SearchDocument source) throws IOException {
+        String id = source.id().toString();
+
+        Document document = new Document();
+        document.add(new StringField(ID, id, Field.Store.YES));
+        document.add(new SortedDocValuesField(ID, new BytesRef(id)));
+        document.add(new StringField(TYPE, source.type(), Field.Store.YES));
+        document.add(new StringField(TWEET_ID, source.tweetId().toString(), Field.Store.NO));
+        document.add(new StringField(TWEET_AUTHOR_ID, source.tweetAuthorId().toString(), Field.Store.NO));
+        document.add(new StringField(AUTHOR_ID, source.authorId().toString(), Field.Store.NO));
+        document.add(new TextField(CONTENT, source.content(), Field.Store.NO));
+        document.add(new NumericDocValuesField(CREATED_AT, source.createdAt().getTime()));
+
+        writer.updateDocument(new Term(ID, id), document);
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        List<String> terms = new ArrayList<>();
+
+        try (TokenStream tokens = analyzer.tokenStream(CONTENT, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        }
+
+        return terms;
+    }
+
+    // Index failures must not fail a request whose data is already committed; a rebuild repairs the index.
+    private void afterCommit(IndexOperation operation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(operation);
+                }
+            });
+            return;
+        }
+
+        apply(operation);
+    }
+
+    private void apply(IndexOperation operation) {
+        try {
+            operation.run();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to update the search index; rebuild it to recover", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexOperation {
+        void run() throws IOException;
+    }
+
+    public record Hit(String type, UUID id, SearchCursor position) {
+    }
+}
@@ -0,0 +1,89 @@
+package dev.tuchanski.api.infra.security;
+
+import dev.tuchanski.api.entity.RevokedToken;
+import dev.tuchanski.api.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Used refresh token ids and revoked token families. The table is the source of truth across
+// restarts and nodes and makes marking an id used atomic, which is what rotation relies on. Memory
+// only holds families known to be revoked, one entry per revoked login; used ids, one per rotation,
+// stay in the table. A family miss is probed by primary key, since another node may have revoked it.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevocationStore {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final ConcurrentHashMap<UUID, Instant> revokedFamilies = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() {
+        for (RevokedToken token : revokedTokenRepository.findAllByFamilyTrueAndExpiresAtAfter(new Date())) {
+            revokedFamilies.put(token.getId(), token.getExpiresAt().toInstant());
+        }
+        log.info("Loaded {} revoked refresh token families", revokedFamilies.size());
+    }
+
+    public boolean isFamilyRevoked(UUID familyId) {
+        Instant expiresAt = revokedFamilies.get(familyId);
+
+        // Any row will do: family and token ids never collide, and rows written before the family
+        // column existed are not flagged.
+        if (expiresAt == null) {
+            expiresAt = revokedTokenRepository.findById(familyId)
+                    .map(token -> token.getExpiresAt().toInstant())
+                    .orElse(null);
+
+            if (expiresAt == null) {
+                return false;
+            }
+
+            revokedFamilies.put(familyId, expiresAt);
+        }
+
+        return expiresAt.isAfter(Instant.now());
+    }
+
+    // Returns false if the id had already been used. Only the table row is written.
+    public boolean markUsed(UUID id, Instant expiresAt) {
+        return revokedTokenRepository.revoke(id, Date.from(expiresAt), false) != 0;
+    }
+
+    public void revokeFamily(UUID familyId, Instant expiresAt) {
+        if (revokedTokenRepository.revoke(familyId, Date.from(expiresAt), true) == 0) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokedFamilies.put(familyId, expiresAt);
+                }
+            });
+        } else {
+            revokedFamilies.put(familyId, expiresAt);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${api.security.token.revocation-purge-interval-ms}")
+    @Transactional
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        revokedFamilies.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        revokedTokenRepository.deleteExpired(Date.from(now));
+    }
+}
@@ -10,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -22,6 +21,8 @@ public class SecurityFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
     private final AuthorizationService authorizationService;
+    private final PrincipalCache principalCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -34,7 +35,7 @@ public class SecurityFilter extends OncePerRequestFilter {
 
             if (subject != null && !subject.isBlank()) {
 
-                UserDetails user = authorizationService.loadUserByUsername(subject);
+                UserDetails user = principalCache.get(subject, authorizationService::loadUserByUsername);
 
                 var authentication = new UsernamePasswordAuthenticationToken(
                         user,
@@ -0,0 +1,22 @@
+package dev.tuchanski.api.infra.text;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Folds usernames and e-mails roughly the way the columns' case- and accent-insensitive collation
+ * compares them, so Java maps and sets agree with the unique keys and with {@code in} lookups:
+ * "Alice" and "alice", or "José" and "jose", are one key.
+ */
+public final class CollationKey {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private CollationKey() {
+    }
+
+    public static String of(String value) {
+        return MARKS.matcher(Normalizer.normalize(value.toLowerCase(Locale.ROOT), Normalizer.Form.NFD)).replaceAll("");
+    }
+}
@@ -0,0 +1,151 @@
+package dev.tuchanski.api.infra.trending;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch over a sliding window: a ring of buckets, each covering bucketMillis and
+ * holding depth rows of width counters. A key's estimate is, per row, the sum of its counter
+ * over the buckets still inside the window, minimized across rows; it never undercounts
+ * (short of the races below) and overcounts by collisions only. Every operation is lock-free.
+ * A bucket is cleared by the first writer or rotation that reaches its new epoch, so increments
+ * racing with that clear may be lost; trends only need approximate counts.
+ */
+final class SlidingCountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+    };
+
+    private final int buckets;
+    private final int depth;
+    private final int width;
+    private final long bucketMillis;
+    private final AtomicLongArray epochs;
+    private final AtomicLongArray[] counters;
+
+    SlidingCountMinSketch(int buckets, int depth, int width, long bucketMillis) {
+        if (depth < 1 || depth > SEEDS.length || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Sketch depth must be 1-" + SEEDS.length + " and width a power of two");
+        }
+
+        this.buckets = buckets;
+        this.depth = depth;
+        this.width = width;
+        this.bucketMillis = bucketMillis;
+        this.epochs = new AtomicLongArray(buckets);
+        this.counters = new AtomicLongArray[buckets];
+
+        for (int i = 0; i < buckets; i++) {
+            counters[i] = new AtomicLongArray(depth * width);
+        }
+    }
+
+    void add(String key, long now) {
+        long epoch = now / bucketMillis;
+        AtomicLongArray bucket = counters[claim(epoch)];
+        long hash = hash(key);
+
+        for (int row = 0; row < depth; row++) {
+            bucket.incrementAndGet(index(row, hash));
+        }
+    }
+
+    long estimate(String key, long now) {
+        long epoch = now / bucketMillis;
+        long hash = hash(key);
+        long min = Long.MAX_VALUE;
+
+        for (int row = 0; row < depth; row++) {
+            int index = index(row, hash);
+            long sum = 0;
+
+            for (int slot = 0; slot < buckets; slot++) {
+                if (live(epochs.get(slot), epoch)) {
+                    sum += counters[slot].get(index);
+                }
+            }
+
+            min = Math.min(min, sum);
+        }
+
+        return min;
+    }
+
+    // Clears the bucket that the current epoch reuses, so writes never pay for it.
+    void advance(long now) {
+        claim(now / bucketMillis);
+    }
+
+    void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(buckets);
+        out.writeInt(depth);
+        out.writeInt(width);
+        out.writeLong(bucketMillis);
+
+        for (int slot = 0; slot < buckets; slot++) {
+            out.writeLong(epochs.get(slot));
+            AtomicLongArray bucket = counters[slot];
+            for (int i = 0; i < bucket.length(); i++) {
+                out.writeLong(bucket.get(i));
+            }
+        }
+    }
+
+    // False, leaving the sketch untouched, when the data was written with other dimensions.
+    boolean readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != buckets || in.readInt() != depth || in.readInt() != width || in.readLong() != bucketMillis) {
+            return false;
+        }
+
+        for (int slot = 0; slot < buckets; slot++) {
+            epochs.set(slot, in.readLong());
+            AtomicLongArray bucket = counters[slot];
+            for (int i = 0; i < bucket.length(); i++) {
+                bucket.set(i, in.readLong());
+            }
+        }
+
+        return true;
+    }
+
+    private int claim(long epoch) {
+        int slot = (int) (epoch % buckets);
+        long seen = epochs.get(slot);
+
+        if (seen < epoch && epochs.compareAndSet(slot, seen, epoch)) {
+            AtomicLongArray bucket = counters[slot];
+            for (int i = 0; i < bucket.length(); i++) {
+                bucket.set(i, 0);
+            }
+        }
+
+        return slot;
+    }
+
+    private boolean live(long bucketEpoch, long epoch) {
+        return bucketEpoch <= epoch && bucketEpoch > epoch - buckets;
+    }
+
+    private int index(int row, long hash) {
+        return row * width + (int) (mix(hash ^ SEEDS[row]) & (width - 1));
+    }
+
+    private static long hash(String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,165 @@
+package dev.tuchanski.api.infra.trending;
+
+import dev.tuchanski.api.dto.hashtag.TrendingHashtagDTO;
+import dev.tuchanski.api.entity.TrendingCheckpoint;
+import dev.tuchanski.api.repository.TrendingCheckpointRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hashtag use counts over a sliding window, kept in memory by a count-min sketch. The sketch only
+ * answers "how often was this tag used", so a bounded candidate set remembers which tags to ask
+ * about: a new tag is admitted while the set has room or once its estimate reaches the smallest
+ * trending count. Each refresh ranks the candidates, evicts the ones that fell off the top and
+ * publishes the ranking; readers just take the published list. The state is checkpointed to the
+ * database periodically and on shutdown, and restored on startup.
+ */
+@Slf4j
+@Component
+public class TrendingHashtags {
+
+    private static final String CHECKPOINT = "TRENDING_HASHTAGS";
+
+    private final TrendingCheckpointRepository trendingCheckpointRepository;
+    private final SlidingCountMinSketch sketch;
+    private final int capacity;
+    private final Set<String> candidates = ConcurrentHashMap.newKeySet();
+
+    private volatile List<TrendingHashtagDTO> ranking = List.of();
+    private volatile long admissionThreshold;
+
+    public TrendingHashtags(TrendingCheckpointRepository trendingCheckpointRepository,
+                            @Value("${api.trending.window-minutes}") long windowMinutes,
+                            @Value("${api.trending.buckets}") int buckets,
+                            @Value("${api.trending.sketch-depth}") int depth,
+                            @Value("${api.trending.sketch-width}") int width,
+                            @Value("${api.trending.candidates}") int capacity) {
+        this.trendingCheckpointRepository = trendingCheckpointRepository;
+        this.sketch = new SlidingCountMinSketch(buckets, depth, width, windowMinutes * 60_000 / buckets);
+        this.capacity = capacity;
+    }
+
+    // Only counts tags whose transaction actually commits.
+    public void record(Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(tags);
+                }
+            });
+            return;
+        }
+
+        add(tags);
+    }
+
+    public List<TrendingHashtagDTO> top(int limit) {
+        List<TrendingHashtagDTO> current = ranking;
+        return current.subList(0, Math.min(limit, current.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${api.trending.refresh-interval-ms}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        sketch.advance(now);
+
+        List<TrendingHashtagDTO> ranked = new ArrayList<>(candidates.size());
+        for (String tag : candidates) {
+            long count = sketch.estimate(tag, now);
+            if (count > 0) {
+                ranked.add(new TrendingHashtagDTO(tag, count));
+            } else {
+                candidates.remove(tag);
+            }
+        }
+
+        ranked.sort(Comparator.comparingLong(TrendingHashtagDTO::count).reversed().thenComparing(TrendingHashtagDTO::tag));
+
+        if (ranked.size() > capacity) {
+            ranked.subList(capacity, ranked.size()).forEach(evicted -> candidates.remove(evicted.tag()));
+            ranked = ranked.subList(0, capacity);
+        }
+
+        ranking = List.copyOf(ranked);
+        admissionThreshold = ranked.size() < capacity ? 0 : ranked.getLast().count();
+    }
+
+    @Scheduled(fixedDelayString = "${api.trending.checkpoint-interval-ms}")
+    public void checkpoint() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                sketch.writeTo(out);
+                List<String> tags = List.copyOf(candidates);
+                out.writeInt(tags.size());
+                for (String tag : tags) {
+                    out.writeUTF(tag);
+                }
+            }
+
+            trendingCheckpointRepository.save(new TrendingCheckpoint(CHECKPOINT, bytes.toByteArray(), new Date()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to checkpoint trending hashtags", e);
+        }
+    }
+
+    @PostConstruct
+    public void restore() {
+        trendingCheckpointRepository.findById(CHECKPOINT).ifPresent(checkpoint -> {
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(checkpoint.getData()))) {
+                if (!sketch.readFrom(in)) {
+                    log.info("Discarding trending checkpoint written with different sketch settings");
+                    return;
+                }
+
+                int size = in.readInt();
+                for (int i = 0; i < size; i++) {
+                    candidates.add(in.readUTF());
+                }
+                refresh();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to restore trending hashtags, starting empty", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+
+    private void add(Collection<String> tags) {
+        long now = System.currentTimeMillis();
+
+        for (String tag : tags) {
+            sketch.add(tag, now);
+            if (candidates.size() < capacity * 2 || sketch.estimate(tag, now) >= admissionThreshold) {
+                candidates.add(tag);
+            }
+        }
+    }
+}
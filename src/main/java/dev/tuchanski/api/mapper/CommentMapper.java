@@ -15,7 +15,8 @@ public class CommentMapper {
                 comment.getCreatedAt(),
                 comment.getUpdatedAt(),
                 comment.getUser().getUsername(),
-                comment.getTweet().getId()
+                comment.getTweet().getId(),
+                comment.getVersion()
         );
     }
 
@@ -0,0 +1,23 @@
+package dev.tuchanski.api.mapper;
+
+import dev.tuchanski.api.dto.importer.ImportJobResponseDTO;
+import dev.tuchanski.api.entity.ImportJob;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ImportJobMapper {
+
+    public ImportJobResponseDTO toDTO(ImportJob job) {
+        return new ImportJobResponseDTO(
+                job.getId(),
+                job.getStatus(),
+                job.getCommittedLines(),
+                job.getImportedRows(),
+                job.getRejectedLines(),
+                job.getLastError(),
+                job.getCreatedAt(),
+                job.getUpdatedAt()
+        );
+    }
+
+}
@@ -0,0 +1,34 @@
+package dev.tuchanski.api.mapper;
+
+import dev.tuchanski.api.dto.search.SearchResultDTO;
+import dev.tuchanski.api.dto.tweet.TweetRowDTO;
+import dev.tuchanski.api.entity.Comment;
+import dev.tuchanski.api.infra.search.SearchDocument;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SearchResultMapper {
+
+    public SearchResultDTO toDTO(TweetRowDTO tweet) {
+        return new SearchResultDTO(
+                SearchDocument.TWEET,
+                tweet.id(),
+                tweet.id(),
+                tweet.content(),
+                tweet.username(),
+                tweet.createdAt()
+        );
+    }
+
+    public SearchResultDTO toDTO(Comment comment) {
+        return new SearchResultDTO(
+                SearchDocument.COMMENT,
+                comment.getId(),
+                comment.getTweet().getId(),
+                comment.getContent(),
+                comment.getUser().getUsername(),
+                comment.getCreatedAt()
+        );
+    }
+
+}
@@ -1,25 +1,55 @@
 package dev.tuchanski.api.mapper;
 
+import dev.tuchanski.api.dto.comment.CommentResponseDTO;
 import dev.tuchanski.api.dto.tweet.TweetRequestDTO;
 import dev.tuchanski.api.dto.tweet.TweetResponseDTO;
+import dev.tuchanski.api.dto.tweet.TweetRowDTO;
+import dev.tuchanski.api.dto.tweet.TweetVersionDTO;
 import dev.tuchanski.api.entity.Tweet;
-import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
-@AllArgsConstructor
 public class TweetMapper {
 
-    private final CommentMapper commentMapper;
-
-    public TweetResponseDTO toDTO(Tweet tweet) {
+    public TweetResponseDTO toDTO(Tweet tweet, List<CommentResponseDTO> comments) {
         return new TweetResponseDTO(
                 tweet.getId(),
                 tweet.getContent(),
                 tweet.getCreatedAt(),
                 tweet.getUpdatedAt(),
                 tweet.getUser().getUsername(),
-                tweet.getComments().stream().map(commentMapper::toDTO).toList()
+                tweet.getLikeCount(),
+                tweet.getCommentCount(),
+                tweet.getVersion(),
+                comments
+        );
+    }
+
+    public TweetResponseDTO toDTO(TweetRowDTO row, List<CommentResponseDTO> comments) {
+        return new TweetResponseDTO(
+                row.id(),
+                row.content(),
+                row.createdAt(),
+                row.updatedAt(),
+                row.username(),
+                row.likeCount(),
+                row.commentCount(),
+                row.version(),
+                comments
+        );
+    }
+
+    public TweetVersionDTO toVersionDTO(Tweet tweet) {
+        return new TweetVersionDTO(
+                tweet.getId(),
+                tweet.getVersion(),
+                tweet.getUpdatedAt(),
+                tweet.getUser().getUsername(),
+                tweet.getLikeCount(),
+                tweet.getCommentCount(),
+                tweet.getCommentsVersion()
         );
     }
 
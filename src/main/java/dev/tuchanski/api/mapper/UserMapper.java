@@ -38,7 +38,9 @@ public class UserMapper {
                 user.getUsername(),
                 user.getEmail(),
                 user.getBio(),
-                user.getRole()
+                user.getRole(),
+                user.getFollowerCount(),
+                user.getFollowingCount()
         );
 
         return dto;
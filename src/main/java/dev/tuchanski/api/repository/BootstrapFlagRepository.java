@@ -0,0 +1,18 @@
+package dev.tuchanski.api.repository;
+
+import dev.tuchanski.api.entity.BootstrapFlag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BootstrapFlagRepository extends JpaRepository<BootstrapFlag, String> {
+
+    // 1 if this transaction claimed the flag; 0 if it was already claimed. A concurrent claim
+    // blocks on the primary key until the other transaction commits or rolls back.
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO bootstrap_flags (name, created_at) VALUES (:name, CURRENT_TIMESTAMP(6))", nativeQuery = true)
+    int claim(@Param("name") String name);
+}
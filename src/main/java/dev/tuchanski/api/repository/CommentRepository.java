@@ -1,13 +1,72 @@
 package dev.tuchanski.api.repository;
 
+import dev.tuchanski.api.dto.comment.CommentVersionDTO;
 import dev.tuchanski.api.entity.Comment;
+import dev.tuchanski.api.infra.search.SearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
-    List<Comment> findByTweetIdOrderByCreatedAtDesc(UUID tweetId);
+    @Query("select c from Comment c join fetch c.user u where u.deletedAt is null and c.tweet.id = :tweetId order by c.createdAt desc, c.id desc")
+    List<Comment> findPageByTweetId(@Param("tweetId") UUID tweetId, Pageable pageable);
+
+    @Query("select c from Comment c join fetch c.user u where u.deletedAt is null and c.tweet.id = :tweetId and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)) order by c.createdAt desc, c.id desc")
+    List<Comment> findPageByTweetIdAfter(@Param("tweetId") UUID tweetId, @Param("createdAt") Date createdAt, @Param("id") UUID id, Pageable pageable);
+
+    @Query("select c from Comment c join fetch c.user u where u.deletedAt is null and c.tweet.id = :tweetId order by c.createdAt desc, c.id desc")
+    List<Comment> findAllWithUserByTweetId(@Param("tweetId") UUID tweetId);
+
+    // Newest :limit comments of each tweet, with authors, in a single round trip.
+    @Query("""
+            select c from Comment c join fetch c.user
+            where c.id in (
+                select r.id from (
+                    select c2.id as id,
+                           row_number() over (partition by c2.tweet.id order by c2.createdAt desc, c2.id desc) as position
+                    from Comment c2
+                    where c2.tweet.id in :tweetIds and c2.user.deletedAt is null
+                ) r
+                where r.position <= :limit
+            )
+            order by c.createdAt desc, c.id desc
+            """)
+    List<Comment> findPreviewByTweetIds(@Param("tweetIds") Collection<UUID> tweetIds, @Param("limit") int limit);
+
+    @Query("select new dev.tuchanski.api.dto.comment.CommentVersionDTO(c.id, c.version, c.updatedAt, u.username) from Comment c join c.user u where c.id = :id and u.deletedAt is null")
+    Optional<CommentVersionDTO> findVersionById(@Param("id") UUID id);
+
+    @Query("select c from Comment c join fetch c.user u where u.deletedAt is null and c.id in :ids")
+    List<Comment> findAllWithUserByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new dev.tuchanski.api.infra.search.SearchDocument('comment', c.id, t.id, t.user.id, c.user.id, c.content, c.createdAt) from Comment c join c.tweet t where c.user.deletedAt is null and t.user.deletedAt is null")
+    Stream<SearchDocument> streamSearchDocuments();
+
+    @Query("select distinct c.tweet.id from Comment c where c.user.id = :userId and c.tweet.id > :after order by c.tweet.id")
+    List<UUID> findTweetIdChunkByUserIdAfter(@Param("userId") UUID userId, @Param("after") UUID after, Pageable pageable);
+
+    @Query("select c from Comment c where c.user.id = :userId order by c.id")
+    List<Comment> findChunkByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Comment c where c.tweet.id = :tweetId")
+    int deleteByTweetId(@Param("tweetId") UUID tweetId);
+
+    @Query("select c.id from Comment c where c.tweet.id in :tweetIds")
+    List<UUID> findIdChunkByTweetIdIn(@Param("tweetIds") Collection<UUID> tweetIds, Pageable pageable);
 }
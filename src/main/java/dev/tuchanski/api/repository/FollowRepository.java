@@ -1,14 +1,54 @@
 package dev.tuchanski.api.repository;
 
+import dev.tuchanski.api.dto.export.FollowExportDTO;
 import dev.tuchanski.api.entity.Follow;
 import dev.tuchanski.api.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface FollowRepository extends JpaRepository<Follow, UUID> {
     boolean existsByFollowerAndFollowed(User follower, User followed);
     Follow findByFollowerAndFollowed(User follower, User followed);
+
+    @Query("select f.followed.username from Follow f where f.follower.id = :followerId and f.followed.username in :usernames")
+    List<String> findFollowedUsernames(@Param("followerId") UUID followerId, @Param("usernames") Collection<String> usernames);
+
+    @Query("select f from Follow f where f.follower.id in :followerIds and f.followed.id in :followedIds")
+    List<Follow> findAllBetween(@Param("followerIds") Collection<UUID> followerIds, @Param("followedIds") Collection<UUID> followedIds);
+
+    // Point lookups on uk_follows_follower_followed, one per candidate.
+    @Query("select f.followed.id from Follow f where f.follower.id = :followerId and f.followed.id in :followedIds")
+    List<UUID> findFollowedIdsIn(@Param("followerId") UUID followerId, @Param("followedIds") Collection<UUID> followedIds);
+
+    @Query("select f from Follow f join fetch f.follower join fetch f.followed where f.follower = :follower and f.followed.deletedAt is null order by f.createdAt desc, f.id desc")
+    List<Follow> findPageByFollower(@Param("follower") User follower, Pageable pageable);
+
+    @Query("select f from Follow f join fetch f.follower join fetch f.followed where f.follower = :follower and f.followed.deletedAt is null and (f.createdAt < :createdAt or (f.createdAt = :createdAt and f.id < :id)) order by f.createdAt desc, f.id desc")
+    List<Follow> findPageByFollowerAfter(@Param("follower") User follower, @Param("createdAt") Date createdAt, @Param("id") UUID id, Pageable pageable);
+
+    @Query("select f from Follow f join fetch f.follower join fetch f.followed where f.followed = :followed and f.follower.deletedAt is null order by f.createdAt desc, f.id desc")
+    List<Follow> findPageByFollowed(@Param("followed") User followed, Pageable pageable);
+
+    @Query("select f from Follow f join fetch f.follower join fetch f.followed where f.followed = :followed and f.follower.deletedAt is null and (f.createdAt < :createdAt or (f.createdAt = :createdAt and f.id < :id)) order by f.createdAt desc, f.id desc")
+    List<Follow> findPageByFollowedAfter(@Param("followed") User followed, @Param("createdAt") Date createdAt, @Param("id") UUID id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new dev.tuchanski.api.dto.export.FollowExportDTO(u.username, f.createdAt) from Follow f join f.followed u where f.follower.id = :followerId order by f.createdAt, f.id")
+    Stream<FollowExportDTO> streamExportByFollowerId(@Param("followerId") UUID followerId);
+
+    @Query("select f from Follow f where f.follower.id = :userId or f.followed.id = :userId order by f.id")
+    List<Follow> findChunkByUserId(@Param("userId") UUID userId, Pageable pageable);
 }
@@ -0,0 +1,24 @@
+package dev.tuchanski.api.repository;
+
+import dev.tuchanski.api.entity.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.UUID;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+
+    // 1 if this request may resume the job; 0 while another request is still working on it. A job
+    // left RUNNING by a crashed instance can be claimed again once it has been idle since staleBefore.
+    // The error that stopped a failed job is cleared.
+    @Modifying
+    @Query("update ImportJob j set j.status = dev.tuchanski.api.entity.enums.ImportStatus.RUNNING, j.updatedAt = current_timestamp, " +
+            "j.lastError = case when j.status = dev.tuchanski.api.entity.enums.ImportStatus.FAILED then null else j.lastError end " +
+            "where j.id = :id and (j.status <> dev.tuchanski.api.entity.enums.ImportStatus.RUNNING or j.updatedAt < :staleBefore)")
+    int claim(@Param("id") UUID id, @Param("staleBefore") Date staleBefore);
+}
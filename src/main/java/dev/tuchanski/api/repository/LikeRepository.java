@@ -1,18 +1,59 @@
 package dev.tuchanski.api.repository;
 
+import dev.tuchanski.api.dto.export.LikeExportDTO;
 import dev.tuchanski.api.entity.Like;
 import dev.tuchanski.api.entity.Tweet;
 import dev.tuchanski.api.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface LikeRepository extends JpaRepository<Like, UUID> {
     boolean existsByUserAndTweet(User user, Tweet tweet);
     Like findByUserAndTweet(User user, Tweet tweet);
-    List<Like> findAllByTweet(Tweet tweet);
-    List<Like> findAllByUser(User user);
+
+    @Query("select l.tweet.id from Like l where l.user.id = :userId and l.tweet.id in :tweetIds")
+    List<UUID> findLikedTweetIds(@Param("userId") UUID userId, @Param("tweetIds") Collection<UUID> tweetIds);
+
+    @Query("select l.tweet.id from Like l where l.user.id = :userId")
+    List<UUID> findTweetIdsByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("select l from Like l join fetch l.user u where u.deletedAt is null and l.tweet = :tweet order by l.createdAt desc, l.id desc")
+    List<Like> findPageByTweet(@Param("tweet") Tweet tweet, Pageable pageable);
+
+    @Query("select l from Like l join fetch l.user u where u.deletedAt is null and l.tweet = :tweet and (l.createdAt < :createdAt or (l.createdAt = :createdAt and l.id < :id)) order by l.createdAt desc, l.id desc")
+    List<Like> findPageByTweetAfter(@Param("tweet") Tweet tweet, @Param("createdAt") Date createdAt, @Param("id") UUID id, Pageable pageable);
+
+    @Query("select l from Like l join fetch l.user where l.user = :user order by l.createdAt desc, l.id desc")
+    List<Like> findPageByUser(@Param("user") User user, Pageable pageable);
+
+    @Query("select l from Like l join fetch l.user where l.user = :user and (l.createdAt < :createdAt or (l.createdAt = :createdAt and l.id < :id)) order by l.createdAt desc, l.id desc")
+    List<Like> findPageByUserAfter(@Param("user") User user, @Param("createdAt") Date createdAt, @Param("id") UUID id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new dev.tuchanski.api.dto.export.LikeExportDTO(l.tweet.id, l.createdAt) from Like l where l.user.id = :userId order by l.createdAt, l.id")
+    Stream<LikeExportDTO> streamExportByUserId(@Param("userId") UUID userId);
+
+    @Query("select l from Like l where l.user.id = :userId order by l.id")
+    List<Like> findChunkByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Like l where l.tweet.id = :tweetId")
+    int deleteByTweetId(@Param("tweetId") UUID tweetId);
+
+    @Query("select l.id from Like l where l.tweet.id in :tweetIds")
+    List<UUID> findIdChunkByTweetIdIn(@Param("tweetIds") Collection<UUID> tweetIds, Pageable pageable);
 }
@@ -0,0 +1,27 @@
+package dev.tuchanski.api.repository;
+
+import dev.tuchanski.api.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    // 1 if this call revoked the id, 0 if it was already revoked (e.g. a concurrent refresh with the same token).
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO revoked_tokens (id, expires_at, family) VALUES (:id, :expiresAt, :family)", nativeQuery = true)
+    int revoke(@Param("id") UUID id, @Param("expiresAt") Date expiresAt, @Param("family") boolean family);
+
+    List<RevokedToken> findAllByFamilyTrueAndExpiresAtAfter(Date now);
+
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Date now);
+}
@@ -0,0 +1,91 @@
+package dev.tuchanski.api.repository;
+
+import dev.tuchanski.api.dto.tweet.TweetRowDTO;
+import dev.tuchanski.api.entity.TimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TimelineRepository extends JpaRepository<TimelineEntry, TimelineEntry.Key> {
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from TimelineEntry e join e.tweet t join t.user u where u.deletedAt is null and e.id.ownerId = :ownerId order by e.createdAt desc, e.id.tweetId desc")
+    List<TweetRowDTO> findTweetsByOwnerId(@Param("ownerId") UUID ownerId, Pageable pageable);
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from TimelineEntry e join e.tweet t join t.user u where u.deletedAt is null and e.id.ownerId = :ownerId and (e.createdAt < :createdAt or (e.createdAt = :createdAt and e.id.tweetId < :tweetId)) order by e.createdAt desc, e.id.tweetId desc")
+    List<TweetRowDTO> findTweetsByOwnerIdAfter(@Param("ownerId") UUID ownerId, @Param("createdAt") Date createdAt, @Param("tweetId") UUID tweetId, Pageable pageable);
+
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO timeline_entries (owner_id, tweet_id, created_at)
+            SELECT f.follower_id, t.id, t.created_at
+            FROM tweets t JOIN follows f ON f.followed_id = t.user_id
+            WHERE t.id = :tweetId
+            UNION ALL
+            SELECT t.user_id, t.id, t.created_at FROM tweets t WHERE t.id = :tweetId
+            """, nativeQuery = true)
+    int fanOutToFollowers(@Param("tweetId") UUID tweetId);
+
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO timeline_entries (owner_id, tweet_id, created_at)
+            SELECT t.user_id, t.id, t.created_at FROM tweets t WHERE t.id = :tweetId
+            """, nativeQuery = true)
+    int pushToAuthor(@Param("tweetId") UUID tweetId);
+
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO timeline_entries (owner_id, tweet_id, created_at)
+            SELECT f.follower_id, t.id, t.created_at
+            FROM tweets t JOIN follows f ON f.followed_id = t.user_id
+            WHERE t.id IN (:tweetIds)
+            UNION ALL
+            SELECT t.user_id, t.id, t.created_at FROM tweets t WHERE t.id IN (:tweetIds)
+            """, nativeQuery = true)
+    int fanOutAllToFollowers(@Param("tweetIds") Collection<UUID> tweetIds);
+
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO timeline_entries (owner_id, tweet_id, created_at)
+            SELECT t.user_id, t.id, t.created_at FROM tweets t WHERE t.id IN (:tweetIds)
+            """, nativeQuery = true)
+    int pushAllToAuthor(@Param("tweetIds") Collection<UUID> tweetIds);
+
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO timeline_entries (owner_id, tweet_id, created_at)
+            SELECT :ownerId, t.id, t.created_at
+            FROM tweets t
+            WHERE t.user_id = :authorId
+            ORDER BY t.created_at DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    int backfill(@Param("ownerId") UUID ownerId, @Param("authorId") UUID authorId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("delete from TimelineEntry e where e.id.ownerId = :ownerId and e.id.tweetId in (select t.id from Tweet t where t.user.id = :authorId)")
+    int deleteByOwnerIdAndAuthorId(@Param("ownerId") UUID ownerId, @Param("authorId") UUID authorId);
+
+    @Modifying
+    @Query("delete from TimelineEntry e where e.id.tweetId = :tweetId")
+    int deleteByTweetId(@Param("tweetId") UUID tweetId);
+
+    @Query("select e.id.tweetId from TimelineEntry e where e.id.ownerId = :ownerId")
+    List<UUID> findTweetIdsByOwnerId(@Param("ownerId") UUID ownerId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from TimelineEntry e where e.id.ownerId = :ownerId and e.id.tweetId in :tweetIds")
+    int deleteByOwnerIdAndTweetIdIn(@Param("ownerId") UUID ownerId, @Param("tweetIds") Collection<UUID> tweetIds);
+
+    @Modifying
+    @Query("delete from TimelineEntry e where e.id.tweetId in :tweetIds")
+    int deleteByTweetIdIn(@Param("tweetIds") Collection<UUID> tweetIds);
+}
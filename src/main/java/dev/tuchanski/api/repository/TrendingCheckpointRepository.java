@@ -0,0 +1,9 @@
+package dev.tuchanski.api.repository;
+
+import dev.tuchanski.api.entity.TrendingCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TrendingCheckpointRepository extends JpaRepository<TrendingCheckpoint, String> {
+}
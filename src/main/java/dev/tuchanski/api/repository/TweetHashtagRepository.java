@@ -0,0 +1,33 @@
+package dev.tuchanski.api.repository;
+
+import dev.tuchanski.api.dto.tweet.TweetRowDTO;
+import dev.tuchanski.api.entity.TweetHashtag;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TweetHashtagRepository extends JpaRepository<TweetHashtag, TweetHashtag.Key> {
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from TweetHashtag h join h.tweet t join t.user u where u.deletedAt is null and h.id.tag = :tag order by h.createdAt desc, h.id.tweetId desc")
+    List<TweetRowDTO> findTweetsByTag(@Param("tag") String tag, Pageable pageable);
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from TweetHashtag h join h.tweet t join t.user u where u.deletedAt is null and h.id.tag = :tag and (h.createdAt < :createdAt or (h.createdAt = :createdAt and h.id.tweetId < :tweetId)) order by h.createdAt desc, h.id.tweetId desc")
+    List<TweetRowDTO> findTweetsByTagAfter(@Param("tag") String tag, @Param("createdAt") Date createdAt, @Param("tweetId") UUID tweetId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from TweetHashtag h where h.id.tweetId = :tweetId")
+    int deleteByTweetId(@Param("tweetId") UUID tweetId);
+
+    @Modifying
+    @Query("delete from TweetHashtag h where h.id.tweetId in :tweetIds")
+    int deleteByTweetIdIn(@Param("tweetIds") Collection<UUID> tweetIds);
+}
@@ -0,0 +1,40 @@
+package dev.tuchanski.api.repository;
+
+import dev.tuchanski.api.dto.tweet.TweetRowDTO;
+import dev.tuchanski.api.entity.TweetMention;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TweetMentionRepository extends JpaRepository<TweetMention, TweetMention.Key> {
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from TweetMention m join m.tweet t join t.user u where u.deletedAt is null and m.id.userId = :userId order by m.createdAt desc, m.id.tweetId desc")
+    List<TweetRowDTO> findTweetsByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from TweetMention m join m.tweet t join t.user u where u.deletedAt is null and m.id.userId = :userId and (m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id.tweetId < :tweetId)) order by m.createdAt desc, m.id.tweetId desc")
+    List<TweetRowDTO> findTweetsByUserIdAfter(@Param("userId") UUID userId, @Param("createdAt") Date createdAt, @Param("tweetId") UUID tweetId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from TweetMention m where m.id.tweetId = :tweetId")
+    int deleteByTweetId(@Param("tweetId") UUID tweetId);
+
+    @Query("select m.id.tweetId from TweetMention m where m.id.userId = :userId")
+    List<UUID> findTweetIdsByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from TweetMention m where m.id.userId = :userId and m.id.tweetId in :tweetIds")
+    int deleteByUserIdAndTweetIdIn(@Param("userId") UUID userId, @Param("tweetIds") Collection<UUID> tweetIds);
+
+    @Modifying
+    @Query("delete from TweetMention m where m.id.tweetId in :tweetIds")
+    int deleteByTweetIdIn(@Param("tweetIds") Collection<UUID> tweetIds);
+}
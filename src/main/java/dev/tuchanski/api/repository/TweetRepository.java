@@ -1,14 +1,89 @@
 package dev.tuchanski.api.repository;
 
+import dev.tuchanski.api.dto.tweet.TweetRowDTO;
+import dev.tuchanski.api.dto.tweet.TweetVersionDTO;
 import dev.tuchanski.api.entity.Tweet;
-import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.infra.search.SearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TweetRepository extends JpaRepository<Tweet, UUID> {
-    List<Tweet> findAllByUser(User user);
+    @Query("select t from Tweet t join fetch t.user where t.id = :id")
+    Optional<Tweet> findWithUserById(@Param("id") UUID id);
+
+    @Query("select t from Tweet t where t.id = :id and t.user.deletedAt is null")
+    Optional<Tweet> findActiveById(@Param("id") UUID id);
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetVersionDTO(t.id, t.version, t.updatedAt, u.username, t.likeCount, t.commentCount, t.commentsVersion) from Tweet t join t.user u where t.id = :id and u.deletedAt is null")
+    Optional<TweetVersionDTO> findVersionById(@Param("id") UUID id);
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from Tweet t join t.user u where u.deletedAt is null and t.id = :id")
+    Optional<TweetRowDTO> findRowById(@Param("id") UUID id);
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from Tweet t join t.user u where u.deletedAt is null and t.id in :ids")
+    List<TweetRowDTO> findRowsByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from Tweet t join t.user u where u.deletedAt is null order by t.createdAt desc, t.id desc")
+    List<TweetRowDTO> findRowPage(Pageable pageable);
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from Tweet t join t.user u where u.deletedAt is null and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id)) order by t.createdAt desc, t.id desc")
+    List<TweetRowDTO> findRowPageAfter(@Param("createdAt") Date createdAt, @Param("id") UUID id, Pageable pageable);
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from Tweet t join t.user u where u.deletedAt is null and u.username = :username order by t.createdAt desc, t.id desc")
+    List<TweetRowDTO> findRowPageByUsername(@Param("username") String username, Pageable pageable);
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from Tweet t join t.user u where u.deletedAt is null and u.username = :username and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id)) order by t.createdAt desc, t.id desc")
+    List<TweetRowDTO> findRowPageByUsernameAfter(@Param("username") String username, @Param("createdAt") Date createdAt, @Param("id") UUID id, Pageable pageable);
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from Tweet t join t.user u where u.deletedAt is null and u.id in :userIds order by t.createdAt desc, t.id desc")
+    List<TweetRowDTO> findRecentByUserIds(@Param("userIds") Collection<UUID> userIds, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from Tweet t join t.user u where u.id = :userId order by t.createdAt, t.id")
+    Stream<TweetRowDTO> streamRowsByUserId(@Param("userId") UUID userId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new dev.tuchanski.api.infra.search.SearchDocument('tweet', t.id, t.id, t.user.id, t.user.id, t.content, t.createdAt) from Tweet t where t.user.deletedAt is null")
+    Stream<SearchDocument> streamSearchDocuments();
+
+    @Modifying
+    @Query("update Tweet t set t.likeCount = t.likeCount + :delta where t.id = :id")
+    int addToLikeCount(@Param("id") UUID id, @Param("delta") long delta);
+
+    @Modifying
+    @Query("update Tweet t set t.commentCount = t.commentCount + :delta where t.id = :id")
+    int addToCommentCount(@Param("id") UUID id, @Param("delta") long delta);
+
+    @Modifying
+    @Query("update Tweet t set t.commentsVersion = t.commentsVersion + :delta where t.id = :id")
+    int addToCommentsVersion(@Param("id") UUID id, @Param("delta") long delta);
+
+    @Modifying
+    @Query("update Tweet t set t.commentsVersion = t.commentsVersion + 1 where t.id in :ids")
+    int bumpCommentsVersionIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select new dev.tuchanski.api.dto.tweet.TweetRowDTO(t.id, t.content, t.createdAt, t.updatedAt, u.username, t.likeCount, t.commentCount, t.version) from Tweet t join t.user u where u.deletedAt is null and u.id in :userIds and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id)) order by t.createdAt desc, t.id desc")
+    List<TweetRowDTO> findRecentByUserIdsAfter(@Param("userIds") Collection<UUID> userIds, @Param("createdAt") Date createdAt, @Param("id") UUID id, Pageable pageable);
+
+    @Query("select t.id from Tweet t where t.user.id = :userId order by t.id")
+    List<UUID> findIdChunkByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Tweet t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -1,10 +1,19 @@
 package dev.tuchanski.api.repository;
 
+import dev.tuchanski.api.dto.user.UserVersionDTO;
 import dev.tuchanski.api.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -12,4 +21,48 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     UserDetails findByUsername(String username);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+    List<User> findAllByUsernameIn(Collection<String> usernames);
+    boolean existsByUsernameAndDeletedAtIsNull(String username);
+
+    // The find*Active* lookups skip accounts pending deletion, see AccountPurger.
+    @Query("select u from User u where u.id = :id and u.deletedAt is null")
+    Optional<User> findActiveById(@Param("id") UUID id);
+
+    @Query("select u from User u where u.username = :username and u.deletedAt is null")
+    User findActiveByUsername(@Param("username") String username);
+
+    @Query("select u from User u where u.username in :usernames and u.deletedAt is null")
+    List<User> findAllActiveByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    @Query("select new dev.tuchanski.api.dto.user.UserVersionDTO(u.id, u.updatedAt, u.followerCount, u.followingCount) from User u where u.id = :id and u.deletedAt is null")
+    Optional<UserVersionDTO> findVersionById(@Param("id") UUID id);
+
+    @Query("select new dev.tuchanski.api.dto.user.UserVersionDTO(u.id, u.updatedAt, u.followerCount, u.followingCount) from User u where u.username = :username and u.deletedAt is null")
+    Optional<UserVersionDTO> findVersionByUsername(@Param("username") String username);
+
+    @Query("select u.id from User u where u.id in :userIds and u.followerCount > :threshold")
+    List<UUID> findIdsWithMoreFollowersThan(@Param("userIds") Collection<UUID> userIds, @Param("threshold") long threshold);
+
+    @Query("select u.id from User u where u.followerCount > :threshold and u.deletedAt is null")
+    List<UUID> findActiveIdsWithMoreFollowersThan(@Param("threshold") long threshold);
+
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select u from User u where u.deletedAt is null order by u.createdAt desc, u.id desc")
+    List<User> findPage(Pageable pageable);
+
+    @Query("select u from User u where u.deletedAt is null and (u.createdAt < :createdAt or (u.createdAt = :createdAt and u.id < :id)) order by u.createdAt desc, u.id desc")
+    List<User> findPageAfter(@Param("createdAt") Date createdAt, @Param("id") UUID id, Pageable pageable);
+
+    @Modifying
+    @Query("update User u set u.followerCount = u.followerCount + :delta where u.id = :id")
+    int addToFollowerCount(@Param("id") UUID id, @Param("delta") long delta);
+
+    @Modifying
+    @Query("update User u set u.followingCount = u.followingCount + :delta where u.id = :id")
+    int addToFollowingCount(@Param("id") UUID id, @Param("delta") long delta);
+
+    @Query("select u.id from User u where u.deletedAt is not null")
+    List<UUID> findIdsPendingDeletion();
 }
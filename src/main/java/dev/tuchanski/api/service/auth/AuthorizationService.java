@@ -1,26 +1,42 @@
 package dev.tuchanski.api.service.auth;
 
+import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.infra.security.PrincipalCache;
 import dev.tuchanski.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class AuthorizationService implements UserDetailsService {
+public class AuthorizationService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         UserDetails user = userRepository.findByUsername(username);
 
-        if (user == null) {
+        // An account being purged can no longer sign in, refresh or use its access tokens.
+        if (user == null || ((User) user).getDeletedAt() != null) {
             throw new UsernameNotFoundException(username);
         }
 
         return user;
     }
+
+    // Called on successful login when the stored hash was made with a lower BCrypt strength than configured.
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User stored = (User) loadUserByUsername(user.getUsername());
+        stored.setPassword(newPassword);
+        principalCache.invalidate(stored.getUsername());
+        return stored;
+    }
 }
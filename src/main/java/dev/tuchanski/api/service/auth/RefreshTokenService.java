@@ -0,0 +1,66 @@
+package dev.tuchanski.api.service.auth;
+
+import dev.tuchanski.api.dto.auth.LoginResponseDTO;
+import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.exception.auth.InvalidTokenException;
+import dev.tuchanski.api.infra.id.UuidV7Generator;
+import dev.tuchanski.api.infra.security.PrincipalCache;
+import dev.tuchanski.api.infra.security.RevocationStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Refresh tokens are single use: every refresh revokes the presented token and issues a new one in
+ * the same family. Presenting a token that was already used revokes the whole family, which logs
+ * out both the legitimate client and whoever replayed it.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final TokenService tokenService;
+    private final RevocationStore revocationStore;
+    private final PrincipalCache principalCache;
+    private final AuthorizationService authorizationService;
+
+    public LoginResponseDTO issue(User user) {
+        return toResponse(user, UuidV7Generator.next());
+    }
+
+    // Family revocation on reuse must be committed even though the request fails.
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public LoginResponseDTO refresh(String refreshToken) {
+        TokenService.RefreshToken presented = tokenService.verifyRefreshToken(refreshToken);
+
+        if (revocationStore.isFamilyRevoked(presented.familyId())) {
+            throw new InvalidTokenException("Refresh token has been revoked");
+        }
+
+        // The insert itself tells whether the token was used before, on whichever node.
+        if (!revocationStore.markUsed(presented.id(), presented.expiresAt())) {
+            revocationStore.revokeFamily(presented.familyId(), tokenService.refreshFamilyExpiry());
+            throw new InvalidTokenException("Refresh token has already been used");
+        }
+
+        User user = (User) principalCache.get(presented.subject(), authorizationService::loadUserByUsername);
+        return toResponse(user, presented.familyId());
+    }
+
+    @Transactional
+    public void revoke(String refreshToken) {
+        TokenService.RefreshToken presented = tokenService.verifyRefreshToken(refreshToken);
+        revocationStore.revokeFamily(presented.familyId(), tokenService.refreshFamilyExpiry());
+    }
+
+    private LoginResponseDTO toResponse(User user, UUID familyId) {
+        return new LoginResponseDTO(
+                tokenService.generateToken(user),
+                tokenService.generateRefreshToken(user, familyId),
+                user.getId(),
+                user.getUsername()
+        );
+    }
+}
@@ -1,29 +1,97 @@
 package dev.tuchanski.api.service.auth;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.exception.auth.InvalidTokenException;
+import dev.tuchanski.api.infra.id.UuidV7Generator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class TokenService {
 
-    @Value("${api.security.token.secret}")
-    private String secret;
+    private static final String ISSUER = "api-twitter-like";
+    private static final String TYPE_CLAIM = "typ";
+    private static final String REFRESH_TYPE = "refresh";
+    private static final String FAMILY_CLAIM = "fam";
+
+    // Algorithm and JWTVerifier are immutable and thread-safe, so they are built once and shared.
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final JWTVerifier refreshVerifier;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final long accessTtlSeconds;
+    private final long refreshTtlSeconds;
+
+    // api.jwt.verifications{type, result}; "cached" access tokens skipped the signature check.
+    private final Counter accessCached;
+    private final Counter accessValid;
+    private final Counter accessInvalid;
+    private final Counter refreshValid;
+    private final Counter refreshInvalid;
+
+    public TokenService(@Value("${api.security.token.secret}") String secret,
+                        @Value("${api.security.token.verification-cache-size}") long verificationCacheSize,
+                        @Value("${api.security.token.access-ttl-seconds}") long accessTtlSeconds,
+                        @Value("${api.security.token.refresh-ttl-seconds}") long refreshTtlSeconds,
+                        MeterRegistry meterRegistry) {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+        this.refreshVerifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .withClaim(TYPE_CLAIM, REFRESH_TYPE)
+                .build();
+        this.accessTtlSeconds = accessTtlSeconds;
+        this.refreshTtlSeconds = refreshTtlSeconds;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verificationCacheSize)
+                .expireAfter(new UntilTokenExpires())
+                .build();
+        this.accessCached = verifications(meterRegistry, "access", "cached");
+        this.accessValid = verifications(meterRegistry, "access", "valid");
+        this.accessInvalid = verifications(meterRegistry, "access", "invalid");
+        this.refreshValid = verifications(meterRegistry, "refresh", "valid");
+        this.refreshInvalid = verifications(meterRegistry, "refresh", "invalid");
+    }
 
     public String generateToken(User user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
+            return JWT.create()
+                    .withIssuer(ISSUER)
+                    .withSubject(user.getUsername())
+                    .withExpiresAt(Instant.now().plusSeconds(accessTtlSeconds))
+                    .sign(algorithm);
 
+        } catch (JWTCreationException ex) {
+            throw new RuntimeException("Error creating JWT", ex);
+        }
+    }
+
+    public String generateRefreshToken(User user, UUID familyId) {
+        try {
             return JWT.create()
-                    .withIssuer("api-twitter-like")
+                    .withIssuer(ISSUER)
                     .withSubject(user.getUsername())
-                    .withExpiresAt(generateExpirationDate())
+                    .withJWTId(UuidV7Generator.next().toString())
+                    .withClaim(TYPE_CLAIM, REFRESH_TYPE)
+                    .withClaim(FAMILY_CLAIM, familyId.toString())
+                    .withExpiresAt(Instant.now().plusSeconds(refreshTtlSeconds))
                     .sign(algorithm);
 
         } catch (JWTCreationException ex) {
@@ -31,23 +99,88 @@ public class TokenService {
         }
     }
 
+    public RefreshToken verifyRefreshToken(String token) {
+        try {
+            DecodedJWT decoded = refreshVerifier.verify(token);
+            RefreshToken refreshToken = new RefreshToken(
+                    decoded.getSubject(),
+                    UUID.fromString(decoded.getId()),
+                    UUID.fromString(decoded.getClaim(FAMILY_CLAIM).asString()),
+                    decoded.getExpiresAtAsInstant());
+            refreshValid.increment();
+            return refreshToken;
+
+        } catch (JWTVerificationException | IllegalArgumentException | NullPointerException ex) {
+            refreshInvalid.increment();
+            throw new InvalidTokenException("Refresh token is not valid");
+        }
+    }
+
+    // Upper bound for the expiry of any refresh token issued from now on, i.e. of a whole family.
+    public Instant refreshFamilyExpiry() {
+        return Instant.now().plusSeconds(refreshTtlSeconds);
+    }
+
     public String validateToken(String token) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            accessCached.increment();
+            return cached.subject();
+        }
+
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
+            DecodedJWT decoded = verifier.verify(token);
+
+            // Refresh tokens are signed with the same key but must not authenticate requests.
+            if (!decoded.getClaim(TYPE_CLAIM).isMissing()) {
+                accessInvalid.increment();
+                return "";
+            }
 
-            return JWT.require(algorithm)
-                    .withIssuer("api-twitter-like")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            if (decoded.getExpiresAtAsInstant() != null) {
+                verifiedTokens.put(token, new VerifiedToken(decoded.getSubject(), decoded.getExpiresAtAsInstant()));
+            }
+
+            accessValid.increment();
+            return decoded.getSubject();
 
         } catch (JWTVerificationException ex) {
+            accessInvalid.increment();
             return "";
         }
     }
 
-    private Instant generateExpirationDate() {
-        return Instant.now().plusSeconds(7200);
+    private static Counter verifications(MeterRegistry meterRegistry, String type, String result) {
+        return Counter.builder("api.jwt.verifications")
+                .tag("type", type)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public record RefreshToken(String subject, UUID id, UUID familyId, Instant expiresAt) {
+    }
+
+    private record VerifiedToken(String subject, Instant expiresAt) {
+    }
+
+    private static class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            long millis = verified.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(millis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 
 }
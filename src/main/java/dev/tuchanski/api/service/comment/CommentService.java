@@ -2,14 +2,15 @@ package dev.tuchanski.api.service.comment;
 
 import dev.tuchanski.api.dto.comment.CommentRequestDTO;
 import dev.tuchanski.api.dto.comment.CommentResponseDTO;
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface CommentService {
     CommentResponseDTO create(String token, UUID tweetId, CommentRequestDTO commentRequestDTO);
     CommentResponseDTO findById(UUID id);
-    List<CommentResponseDTO> findByTweetIdOrderByCreatedAtDesc(UUID tweetId);
-    CommentResponseDTO update(String token, UUID id, CommentRequestDTO commentRequestDTO);
+    String findETag(UUID id);
+    CursorPageResponseDTO<CommentResponseDTO> findByTweetIdOrderByCreatedAtDesc(UUID tweetId, String cursor, int size);
+    CommentResponseDTO update(String token, UUID id, CommentRequestDTO commentRequestDTO, String ifMatch);
     void delete(String token, UUID id);
 }
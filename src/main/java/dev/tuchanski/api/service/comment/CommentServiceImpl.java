@@ -2,18 +2,28 @@ package dev.tuchanski.api.service.comment;
 
 import dev.tuchanski.api.dto.comment.CommentRequestDTO;
 import dev.tuchanski.api.dto.comment.CommentResponseDTO;
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
 import dev.tuchanski.api.entity.Comment;
 import dev.tuchanski.api.entity.Tweet;
 import dev.tuchanski.api.entity.User;
 import dev.tuchanski.api.exception.comment.CommentNotBelongToUserException;
 import dev.tuchanski.api.exception.comment.CommentNotFoundException;
+import dev.tuchanski.api.exception.edit.EditConflictException;
 import dev.tuchanski.api.exception.tweet.ContentIsTheSameException;
 import dev.tuchanski.api.exception.tweet.TweetNotFoundException;
+import dev.tuchanski.api.infra.counter.CounterBuffer;
+import dev.tuchanski.api.infra.counter.CounterType;
+import dev.tuchanski.api.infra.http.ETags;
+import dev.tuchanski.api.infra.pagination.Cursor;
+import dev.tuchanski.api.infra.pagination.CursorPagination;
+import dev.tuchanski.api.infra.search.SearchDocument;
+import dev.tuchanski.api.infra.search.SearchIndex;
 import dev.tuchanski.api.mapper.CommentMapper;
 import dev.tuchanski.api.repository.CommentRepository;
 import dev.tuchanski.api.repository.TweetRepository;
 import dev.tuchanski.api.repository.UserRepository;
 import dev.tuchanski.api.service.auth.TokenService;
+import dev.tuchanski.api.service.tweet.TweetResponseCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +42,9 @@ public class CommentServiceImpl implements CommentService {
     private final TweetRepository tweetRepository;
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
+    private final CounterBuffer counterBuffer;
+    private final SearchIndex searchIndex;
+    private final TweetResponseCache tweetResponseCache;
 
     @Override
     @Transactional
@@ -39,14 +52,18 @@ public class CommentServiceImpl implements CommentService {
 
         User user = getUser(token, tokenService, userRepository);
 
-        Tweet tweet = tweetRepository.findById(tweetId).orElseThrow(
+        Tweet tweet = tweetRepository.findActiveById(tweetId).orElseThrow(
                 () -> new TweetNotFoundException("Tweet with id: " + tweetId + " not found")
         );
 
         Comment comment = commentMapper.toEntity(commentRequestDTO);
         comment.setTweet(tweet);
         comment.setUser(user);
-        comment = commentRepository.save(comment);
+        comment = commentRepository.saveAndFlush(comment);
+        counterBuffer.add(CounterType.TWEET_COMMENTS, tweet.getId(), 1);
+        counterBuffer.add(CounterType.TWEET_COMMENTS_VERSION, tweet.getId(), 1);
+        searchIndex.index(SearchDocument.of(comment));
+        tweetResponseCache.invalidate(tweet.getId());
 
         return commentMapper.toDTO(comment);
     }
@@ -59,19 +76,32 @@ public class CommentServiceImpl implements CommentService {
         ));
     }
 
+    @Override
+    public String findETag(UUID id) {
+        return ETags.of(commentRepository.findVersionById(id).orElseThrow(
+                () -> new CommentNotFoundException("Comment with id: " + id + " not found")
+        ));
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<CommentResponseDTO> findByTweetIdOrderByCreatedAtDesc(UUID tweetId) {
-        if (tweetRepository.findById(tweetId).isEmpty()) {
+    public CursorPageResponseDTO<CommentResponseDTO> findByTweetIdOrderByCreatedAtDesc(UUID tweetId, String cursor, int size) {
+        if (tweetRepository.findActiveById(tweetId).isEmpty()) {
             throw new TweetNotFoundException("Tweet with id: " + tweetId + " not found");
         }
 
-        return commentRepository.findByTweetIdOrderByCreatedAtDesc(tweetId).stream().map(commentMapper::toDTO).toList();
+        Cursor after = Cursor.decode(cursor);
+
+        List<Comment> comments = after == null
+                ? commentRepository.findPageByTweetId(tweetId, CursorPagination.pageable(size))
+                : commentRepository.findPageByTweetIdAfter(tweetId, after.createdAt(), after.id(), CursorPagination.pageable(size));
+
+        return CursorPagination.toPage(comments, size, Comment::getCreatedAt, Comment::getId, commentMapper::toDTO);
     }
 
     @Override
     @Transactional
-    public CommentResponseDTO update(String token, UUID id, CommentRequestDTO commentRequestDTO) {
+    public CommentResponseDTO update(String token, UUID id, CommentRequestDTO commentRequestDTO, String ifMatch) {
         User user = getUser(token, tokenService, userRepository);
 
         Comment comment = commentRepository.findById(id).orElseThrow(
@@ -82,12 +112,19 @@ public class CommentServiceImpl implements CommentService {
             throw new CommentNotBelongToUserException("Comment with id: " + id + " not belong to this User");
         }
 
+        if (!ETags.matchesVersion(ifMatch, comment.getVersion())) {
+            throw new EditConflictException("Comment was modified since it was read");
+        }
+
         if (comment.getContent().equals(commentRequestDTO.content())) {
             throw new ContentIsTheSameException("Comment content is the same");
         }
 
         comment.setContent(commentRequestDTO.content());
-        comment = commentRepository.save(comment);
+        comment = commentRepository.saveAndFlush(comment);
+        counterBuffer.add(CounterType.TWEET_COMMENTS_VERSION, comment.getTweet().getId(), 1);
+        searchIndex.index(SearchDocument.of(comment));
+        tweetResponseCache.invalidate(comment.getTweet().getId());
         return commentMapper.toDTO(comment);
     }
 
@@ -104,6 +141,10 @@ public class CommentServiceImpl implements CommentService {
         }
 
         commentRepository.delete(comment);
+        counterBuffer.add(CounterType.TWEET_COMMENTS, comment.getTweet().getId(), -1);
+        counterBuffer.add(CounterType.TWEET_COMMENTS_VERSION, comment.getTweet().getId(), 1);
+        searchIndex.delete(comment.getId());
+        tweetResponseCache.invalidate(comment.getTweet().getId());
     }
 
     private User getUserFromToken(String token) {
@@ -0,0 +1,63 @@
+package dev.tuchanski.api.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.tuchanski.api.dto.export.ExportLineDTO;
+import dev.tuchanski.api.dto.export.FollowExportDTO;
+import dev.tuchanski.api.dto.export.LikeExportDTO;
+import dev.tuchanski.api.dto.tweet.TweetRowDTO;
+import dev.tuchanski.api.repository.FollowRepository;
+import dev.tuchanski.api.repository.LikeRepository;
+import dev.tuchanski.api.repository.TweetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// Writes an account as NDJSON straight from cursor-backed projection streams, so memory use does not
+// depend on the number of rows. Streams are consumed one after another because a streaming result
+// set occupies its connection until closed.
+@Component
+@RequiredArgsConstructor
+public class AccountExportWriter {
+
+    private final TweetRepository tweetRepository;
+    private final LikeRepository likeRepository;
+    private final FollowRepository followRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void write(UUID userId, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            try (Stream<TweetRowDTO> tweets = tweetRepository.streamRowsByUserId(userId)) {
+                tweets.forEach(tweet -> writeLine(generator, "tweet", tweet));
+            }
+
+            try (Stream<LikeExportDTO> likes = likeRepository.streamExportByUserId(userId)) {
+                likes.forEach(like -> writeLine(generator, "like", like));
+            }
+
+            try (Stream<FollowExportDTO> following = followRepository.streamExportByFollowerId(userId)) {
+                following.forEach(follow -> writeLine(generator, "following", follow));
+            }
+
+            generator.writeRaw('\n');
+        }
+    }
+
+    private static void writeLine(JsonGenerator generator, String type, Object data) {
+        try {
+            generator.writeObject(new ExportLineDTO(type, data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package dev.tuchanski.api.service.export;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ExportService {
+    StreamingResponseBody exportAccount(String token);
+}
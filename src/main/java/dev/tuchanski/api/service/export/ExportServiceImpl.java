@@ -0,0 +1,30 @@
+package dev.tuchanski.api.service.export;
+
+import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.repository.UserRepository;
+import dev.tuchanski.api.service.auth.TokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.UUID;
+
+import static dev.tuchanski.api.service.user.UserServiceImpl.getUser;
+
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements ExportService {
+
+    private final AccountExportWriter accountExportWriter;
+    private final TokenService tokenService;
+    private final UserRepository userRepository;
+
+    // The user is resolved on the request thread; the body is written later on an async thread,
+    // where the security context is no longer available.
+    @Override
+    public StreamingResponseBody exportAccount(String token) {
+        User user = getUser(token, tokenService, userRepository);
+        UUID userId = user.getId();
+        return out -> accountExportWriter.write(userId, out);
+    }
+}
@@ -1,13 +1,12 @@
 package dev.tuchanski.api.service.follow;
 
 import dev.tuchanski.api.dto.follow.FollowResponseDTO;
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
 
-import java.util.List;
-import java.util.UUID;
 
 public interface FollowService {
     FollowResponseDTO createFollow(String token, String usernameFollowTarget);
-    List<FollowResponseDTO> getFollowing(String username);
-    List<FollowResponseDTO> getFollowers(String username);
+    CursorPageResponseDTO<FollowResponseDTO> getFollowing(String username, String cursor, int size);
+    CursorPageResponseDTO<FollowResponseDTO> getFollowers(String username, String cursor, int size);
     void delete(String token, String usernameUnfollowTarget);
 }
@@ -1,22 +1,28 @@
 package dev.tuchanski.api.service.follow;
 
 import dev.tuchanski.api.dto.follow.FollowResponseDTO;
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
 import dev.tuchanski.api.entity.Follow;
 import dev.tuchanski.api.entity.User;
 import dev.tuchanski.api.exception.follow.RelationshipAlreadyExistsException;
 import dev.tuchanski.api.exception.follow.RelationshipIsNotValidException;
 import dev.tuchanski.api.exception.follow.RelationshipNotFoundException;
 import dev.tuchanski.api.exception.user.UserNotFoundException;
+import dev.tuchanski.api.infra.counter.CounterBuffer;
+import dev.tuchanski.api.infra.counter.CounterType;
+import dev.tuchanski.api.infra.pagination.Cursor;
+import dev.tuchanski.api.infra.pagination.CursorPagination;
 import dev.tuchanski.api.mapper.FollowMapper;
 import dev.tuchanski.api.repository.FollowRepository;
 import dev.tuchanski.api.repository.UserRepository;
 import dev.tuchanski.api.service.auth.TokenService;
+import dev.tuchanski.api.service.timeline.TimelineService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static dev.tuchanski.api.service.user.UserServiceImpl.getUser;
 
@@ -28,13 +34,15 @@ public class FollowServiceImpl implements FollowService {
     private final UserRepository userRepository;
     private final TokenService tokenService;
     private final FollowMapper followMapper;
+    private final TimelineService timelineService;
+    private final CounterBuffer counterBuffer;
 
     @Override
     @Transactional
     public FollowResponseDTO createFollow(String token, String usernameFollowTarget) {
         User sessionUser = getUserFromToken(token);
 
-        User followTarget = (User) userRepository.findByUsername(usernameFollowTarget);
+        User followTarget = userRepository.findActiveByUsername(usernameFollowTarget);
 
         if (followTarget == null) {
             throw new UserNotFoundException("User not found with username " + usernameFollowTarget);
@@ -44,49 +52,64 @@ public class FollowServiceImpl implements FollowService {
             throw new RelationshipIsNotValidException("You are not allowed to follow yourself");
         }
 
-        if (followRepository.existsByFollowerAndFollowed(sessionUser, followTarget)) {
-            throw new RelationshipAlreadyExistsException("This user is already following " + followTarget.getUsername());
-        }
-
         Follow relationship = new Follow();
 
         relationship.setFollower(sessionUser);
         relationship.setFollowed(followTarget);
 
-        relationship = followRepository.save(relationship);
+        try {
+            relationship = followRepository.saveAndFlush(relationship);
+        } catch (DataIntegrityViolationException e) {
+            throw new RelationshipAlreadyExistsException("This user is already following " + followTarget.getUsername());
+        }
+        timelineService.onFollow(sessionUser, followTarget);
+        counterBuffer.add(CounterType.USER_FOLLOWING, sessionUser.getId(), 1);
+        counterBuffer.add(CounterType.USER_FOLLOWERS, followTarget.getId(), 1);
 
         return followMapper.toDTO(relationship);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<FollowResponseDTO> getFollowing(String username) {
-        User user = (User) userRepository.findByUsername(username);
+    public CursorPageResponseDTO<FollowResponseDTO> getFollowing(String username, String cursor, int size) {
+        User user = userRepository.findActiveByUsername(username);
 
         if (user == null) {
             throw new UserNotFoundException("User not found with name " + username);
         }
 
-        return user.getFollowing().stream().map(followMapper::toDTO).collect(Collectors.toList());
+        Cursor after = Cursor.decode(cursor);
+
+        List<Follow> following = after == null
+                ? followRepository.findPageByFollower(user, CursorPagination.pageable(size))
+                : followRepository.findPageByFollowerAfter(user, after.createdAt(), after.id(), CursorPagination.pageable(size));
+
+        return CursorPagination.toPage(following, size, Follow::getCreatedAt, Follow::getId, followMapper::toDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<FollowResponseDTO> getFollowers(String username) {
-        User user = (User) userRepository.findByUsername(username);
+    public CursorPageResponseDTO<FollowResponseDTO> getFollowers(String username, String cursor, int size) {
+        User user = userRepository.findActiveByUsername(username);
 
         if (user == null) {
             throw new UserNotFoundException("User not found with name " + username);
         }
 
-        return user.getFollowers().stream().map(followMapper::toDTO).collect(Collectors.toList());
+        Cursor after = Cursor.decode(cursor);
+
+        List<Follow> followers = after == null
+                ? followRepository.findPageByFollowed(user, CursorPagination.pageable(size))
+                : followRepository.findPageByFollowedAfter(user, after.createdAt(), after.id(), CursorPagination.pageable(size));
+
+        return CursorPagination.toPage(followers, size, Follow::getCreatedAt, Follow::getId, followMapper::toDTO);
     }
 
     @Override
     @Transactional
     public void delete(String token, String usernameUnfollowTarget) {
         User sessionUser = getUserFromToken(token);
-        User unfollowTarget = (User) userRepository.findByUsername(usernameUnfollowTarget);
+        User unfollowTarget = userRepository.findActiveByUsername(usernameUnfollowTarget);
 
         if (unfollowTarget == null) {
             throw new UserNotFoundException("User not found with name " + usernameUnfollowTarget);
@@ -103,6 +126,9 @@ public class FollowServiceImpl implements FollowService {
         }
 
         followRepository.delete(follow);
+        timelineService.onUnfollow(sessionUser, unfollowTarget);
+        counterBuffer.add(CounterType.USER_FOLLOWING, sessionUser.getId(), -1);
+        counterBuffer.add(CounterType.USER_FOLLOWERS, unfollowTarget.getId(), -1);
     }
 
     private User getUserFromToken(String token) {
@@ -0,0 +1,276 @@
+package dev.tuchanski.api.service.importer;
+
+import dev.tuchanski.api.dto.importer.FollowImportDTO;
+import dev.tuchanski.api.dto.importer.TweetImportDTO;
+import dev.tuchanski.api.dto.importer.UserImportDTO;
+import dev.tuchanski.api.entity.Follow;
+import dev.tuchanski.api.entity.ImportJob;
+import dev.tuchanski.api.entity.Like;
+import dev.tuchanski.api.entity.Tweet;
+import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.entity.enums.UserRole;
+import dev.tuchanski.api.exception.importer.ImportJobNotFoundException;
+import dev.tuchanski.api.infra.counter.CounterBuffer;
+import dev.tuchanski.api.infra.counter.CounterType;
+import dev.tuchanski.api.infra.search.SearchDocument;
+import dev.tuchanski.api.infra.search.SearchIndex;
+import dev.tuchanski.api.infra.text.CollationKey;
+import dev.tuchanski.api.repository.FollowRepository;
+import dev.tuchanski.api.repository.ImportJobRepository;
+import dev.tuchanski.api.repository.LikeRepository;
+import dev.tuchanski.api.repository.TweetRepository;
+import dev.tuchanski.api.repository.UserRepository;
+import dev.tuchanski.api.service.tag.TweetTagService;
+import dev.tuchanski.api.service.timeline.TimelineService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+// Writes one chunk and its job progress in a single transaction. Entities get their UUIDv7 ids on
+// persist, without a database round trip, so the inserts are sent in JDBC batches when the
+// transaction flushes. Users are written first, so any line of the same chunk can refer to them.
+// Usernames and e-mails are matched by CollationKey, as the unique keys compare them; otherwise
+// "Alice" next to an existing "alice" would fail the chunk, and every resume of it, in the database.
+@Component
+@RequiredArgsConstructor
+public class ImportChunkWriter {
+
+    private final ImportJobRepository importJobRepository;
+    private final UserRepository userRepository;
+    private final TweetRepository tweetRepository;
+    private final LikeRepository likeRepository;
+    private final FollowRepository followRepository;
+    private final TimelineService timelineService;
+    private final CounterBuffer counterBuffer;
+    private final SearchIndex searchIndex;
+    private final TweetTagService tweetTagService;
+
+    @Transactional
+    public ImportJob write(UUID jobId, List<ParsedLine> lines, int lineCount) {
+        ImportJob job = importJobRepository.findById(jobId)
+                .orElseThrow(() -> new ImportJobNotFoundException("Import job not found with id " + jobId));
+
+        Progress progress = new Progress();
+        List<ParsedLine> users = new ArrayList<>();
+        List<ParsedLine> tweets = new ArrayList<>();
+        List<ParsedLine> follows = new ArrayList<>();
+        Set<String> usernames = new HashSet<>();
+
+        for (ParsedLine line : lines) {
+            switch (line.value()) {
+                case UserImportDTO user -> {
+                    users.add(line);
+                    usernames.add(user.username());
+                }
+                case TweetImportDTO tweet -> {
+                    tweets.add(line);
+                    usernames.add(tweet.username());
+                    if (tweet.likedBy() != null) {
+                        usernames.addAll(tweet.likedBy());
+                    }
+                }
+                case FollowImportDTO follow -> {
+                    follows.add(line);
+                    usernames.add(follow.follower());
+                    usernames.add(follow.followed());
+                }
+                case null, default -> progress.reject(line.lineNumber(), line.error());
+            }
+        }
+
+        Map<String, User> known = new HashMap<>();
+        userRepository.findAllByUsernameIn(usernames).forEach(user -> known.put(CollationKey.of(user.getUsername()), user));
+
+        writeUsers(users, known, progress);
+        List<Tweet> newTweets = writeTweets(tweets, known, progress);
+        List<Follow> newFollows = writeFollows(follows, known, progress);
+
+        // Timeline statements read the new rows, so the batched inserts must reach the database first.
+        userRepository.flush();
+        timelineService.fanOutAll(newTweets);
+        newTweets.forEach(tweet -> searchIndex.index(SearchDocument.of(tweet)));
+        tweetTagService.onTweetsImported(newTweets);
+        timelineService.onFollowAll(newFollows);
+
+        job.setCommittedLines(job.getCommittedLines() + lineCount);
+        job.setImportedRows(job.getImportedRows() + progress.imported);
+        job.setRejectedLines(job.getRejectedLines() + progress.rejected);
+        if (progress.lastError != null) {
+            job.setLastError(StringUtils.truncate(progress.lastError, 900));
+        }
+
+        return job;
+    }
+
+    private void writeUsers(List<ParsedLine> lines, Map<String, User> known, Progress progress) {
+        Set<String> emails = new HashSet<>();
+        lines.forEach(line -> emails.add(((UserImportDTO) line.value()).email()));
+        Set<String> takenEmails = new HashSet<>();
+        userRepository.findExistingEmails(emails).forEach(email -> takenEmails.add(CollationKey.of(email)));
+
+        List<User> batch = new ArrayList<>();
+
+        for (ParsedLine line : lines) {
+            UserImportDTO dto = (UserImportDTO) line.value();
+
+            if (known.containsKey(CollationKey.of(dto.username()))) {
+                progress.reject(line.lineNumber(), "Username already registered: " + dto.username());
+                continue;
+            }
+
+            if (!takenEmails.add(CollationKey.of(dto.email()))) {
+                progress.reject(line.lineNumber(), "E-mail already registered: " + dto.email());
+                continue;
+            }
+
+            User user = new User();
+            user.setName(dto.name());
+            user.setUsername(dto.username());
+            user.setEmail(dto.email());
+            user.setPassword(dto.passwordHash());
+            user.setBio(dto.bio());
+            user.setRole(UserRole.USER);
+
+            batch.add(user);
+            known.put(CollationKey.of(user.getUsername()), user);
+        }
+
+        userRepository.saveAll(batch);
+        progress.imported += batch.size();
+    }
+
+    private List<Tweet> writeTweets(List<ParsedLine> lines, Map<String, User> known, Progress progress) {
+        List<Tweet> batch = new ArrayList<>();
+        List<Like> likes = new ArrayList<>();
+
+        for (ParsedLine line : lines) {
+            TweetImportDTO dto = (TweetImportDTO) line.value();
+            User author = known.get(CollationKey.of(dto.username()));
+
+            if (author == null) {
+                progress.reject(line.lineNumber(), "User not found with username " + dto.username());
+                continue;
+            }
+
+            Set<String> likedBy = new LinkedHashSet<>();
+            if (dto.likedBy() != null) {
+                dto.likedBy().forEach(username -> likedBy.add(CollationKey.of(username)));
+            }
+            Optional<String> unknownLiker = likedBy.stream().filter(username -> !known.containsKey(username)).findFirst();
+
+            if (unknownLiker.isPresent()) {
+                progress.reject(line.lineNumber(), "User not found with username " + unknownLiker.get());
+                continue;
+            }
+
+            Tweet tweet = new Tweet();
+            tweet.setUser(author);
+            tweet.setContent(dto.content());
+            tweet.setLikeCount(likedBy.size());
+            batch.add(tweet);
+
+            for (String username : likedBy) {
+                Like like = new Like();
+                like.setUser(known.get(username));
+                like.setTweet(tweet);
+                likes.add(like);
+            }
+        }
+
+        tweetRepository.saveAll(batch);
+        likeRepository.saveAll(likes);
+        progress.imported += batch.size() + likes.size();
+        return batch;
+    }
+
+    private List<Follow> writeFollows(List<ParsedLine> lines, Map<String, User> known, Progress progress) {
+        List<Follow> batch = new ArrayList<>();
+        Set<List<UUID>> pairs = existingFollows(lines, known);
+        Map<UUID, Long> following = new HashMap<>();
+        Map<UUID, Long> followers = new HashMap<>();
+
+        for (ParsedLine line : lines) {
+            FollowImportDTO dto = (FollowImportDTO) line.value();
+            User follower = known.get(CollationKey.of(dto.follower()));
+            User followed = known.get(CollationKey.of(dto.followed()));
+
+            if (follower == null || followed == null) {
+                progress.reject(line.lineNumber(), "User not found with username " + (follower == null ? dto.follower() : dto.followed()));
+                continue;
+            }
+
+            if (follower == followed) {
+                progress.reject(line.lineNumber(), "A user cannot follow themselves: " + dto.follower());
+                continue;
+            }
+
+            if (!pairs.add(List.of(follower.getId(), followed.getId()))) {
+                progress.reject(line.lineNumber(), dto.follower() + " already follows " + dto.followed());
+                continue;
+            }
+
+            Follow follow = new Follow();
+            follow.setFollower(follower);
+            follow.setFollowed(followed);
+            batch.add(follow);
+
+            following.merge(follower.getId(), 1L, Long::sum);
+            followers.merge(followed.getId(), 1L, Long::sum);
+        }
+
+        followRepository.saveAll(batch);
+        following.forEach((id, delta) -> counterBuffer.add(CounterType.USER_FOLLOWING, id, delta));
+        followers.forEach((id, delta) -> counterBuffer.add(CounterType.USER_FOLLOWERS, id, delta));
+        progress.imported += batch.size();
+        return batch;
+    }
+
+    // Pairs of the chunk that are already followed in the database, so those lines are rejected
+    // instead of failing the chunk (and every resume of it) on the unique key.
+    private Set<List<UUID>> existingFollows(List<ParsedLine> lines, Map<String, User> known) {
+        Set<UUID> followerIds = new HashSet<>();
+        Set<UUID> followedIds = new HashSet<>();
+
+        for (ParsedLine line : lines) {
+            FollowImportDTO dto = (FollowImportDTO) line.value();
+            User follower = known.get(CollationKey.of(dto.follower()));
+            User followed = known.get(CollationKey.of(dto.followed()));
+
+            if (follower != null && followed != null) {
+                followerIds.add(follower.getId());
+                followedIds.add(followed.getId());
+            }
+        }
+
+        Set<List<UUID>> existing = new HashSet<>();
+
+        if (!followerIds.isEmpty()) {
+            followRepository.findAllBetween(followerIds, followedIds)
+                    .forEach(follow -> existing.add(List.of(follow.getFollower().getId(), follow.getFollowed().getId())));
+        }
+
+        return existing;
+    }
+
+    private static final class Progress {
+        private long imported;
+        private long rejected;
+        private String lastError;
+
+        private void reject(long lineNumber, String error) {
+            rejected++;
+            lastError = "Line " + lineNumber + ": " + error;
+        }
+    }
+}
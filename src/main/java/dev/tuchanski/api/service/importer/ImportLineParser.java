@@ -0,0 +1,62 @@
+package dev.tuchanski.api.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.tuchanski.api.dto.importer.FollowImportDTO;
+import dev.tuchanski.api.dto.importer.ImportLineDTO;
+import dev.tuchanski.api.dto.importer.TweetImportDTO;
+import dev.tuchanski.api.dto.importer.UserImportDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Stateless, so a chunk can be parsed and validated from several threads at once.
+@Component
+@RequiredArgsConstructor
+public class ImportLineParser {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public ParsedLine parse(long lineNumber, String line) {
+        ImportLineDTO envelope;
+        try {
+            envelope = objectMapper.readValue(line, ImportLineDTO.class);
+        } catch (JsonProcessingException e) {
+            return ParsedLine.rejected(lineNumber, "Malformed JSON");
+        }
+
+        Class<?> type = switch (String.valueOf(envelope.type())) {
+            case "user" -> UserImportDTO.class;
+            case "tweet" -> TweetImportDTO.class;
+            case "follow" -> FollowImportDTO.class;
+            default -> null;
+        };
+
+        if (type == null || envelope.data() == null || !envelope.data().isObject()) {
+            return ParsedLine.rejected(lineNumber, "Unsupported line type " + envelope.type());
+        }
+
+        Object value;
+        try {
+            value = objectMapper.treeToValue(envelope.data(), type);
+        } catch (JsonProcessingException e) {
+            return ParsedLine.rejected(lineNumber, "Invalid " + envelope.type() + " data");
+        }
+
+        Set<ConstraintViolation<Object>> violations = validator.validate(value);
+
+        if (!violations.isEmpty()) {
+            return ParsedLine.rejected(lineNumber, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+
+        return ParsedLine.valid(lineNumber, value);
+    }
+}
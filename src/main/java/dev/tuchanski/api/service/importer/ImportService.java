@@ -0,0 +1,11 @@
+package dev.tuchanski.api.service.importer;
+
+import dev.tuchanski.api.dto.importer.ImportJobResponseDTO;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface ImportService {
+    ImportJobResponseDTO importNdjson(InputStream body, UUID jobId);
+    ImportJobResponseDTO getJob(UUID id);
+}
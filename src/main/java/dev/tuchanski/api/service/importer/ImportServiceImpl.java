@@ -0,0 +1,137 @@
+package dev.tuchanski.api.service.importer;
+
+import dev.tuchanski.api.dto.importer.ImportJobResponseDTO;
+import dev.tuchanski.api.entity.ImportJob;
+import dev.tuchanski.api.entity.enums.ImportStatus;
+import dev.tuchanski.api.exception.importer.ImportJobAlreadyRunningException;
+import dev.tuchanski.api.exception.importer.ImportJobNotFoundException;
+import dev.tuchanski.api.mapper.ImportJobMapper;
+import dev.tuchanski.api.repository.ImportJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+// Reads the body line by line and never holds more than one chunk. Each chunk is parsed and validated
+// in parallel, then written in its own transaction; a failed or interrupted import is resumed by
+// sending the same input again with the job id, which skips the lines already committed.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportServiceImpl implements ImportService {
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportLineParser importLineParser;
+    private final ImportChunkWriter importChunkWriter;
+    private final ImportJobMapper importJobMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${api.import.chunk-size}")
+    private int chunkSize;
+
+    @Value("${api.import.stale-after-seconds}")
+    private long staleAfterSeconds;
+
+    @Override
+    public ImportJobResponseDTO importNdjson(InputStream body, UUID jobId) {
+        ImportJob job = jobId == null ? start() : resume(jobId);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+
+            while (lineNumber < job.getCommittedLines() && reader.readLine() != null) {
+                lineNumber++;
+            }
+
+            List<String> chunk = new ArrayList<>(chunkSize);
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                chunk.add(line);
+
+                if (chunk.size() == chunkSize) {
+                    writeChunk(job.getId(), lineNumber, chunk);
+                    lineNumber += chunk.size();
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                writeChunk(job.getId(), lineNumber, chunk);
+            }
+
+            return finish(job.getId(), ImportStatus.COMPLETED, null);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Import {} failed", job.getId(), e);
+            return finish(job.getId(), ImportStatus.FAILED, "The chunk after the committed lines conflicts with existing rows");
+        } catch (IOException | RuntimeException e) {
+            log.warn("Import {} failed", job.getId(), e);
+            return finish(job.getId(), ImportStatus.FAILED, NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ImportJobResponseDTO getJob(UUID id) {
+        return importJobRepository.findById(id)
+                .map(importJobMapper::toDTO)
+                .orElseThrow(() -> new ImportJobNotFoundException("Import job not found with id " + id));
+    }
+
+    private void writeChunk(UUID jobId, long firstLineNumber, List<String> chunk) {
+        // Blank lines are counted as consumed but produce nothing.
+        List<ParsedLine> parsed = IntStream.range(0, chunk.size()).parallel()
+                .filter(i -> !chunk.get(i).isBlank())
+                .mapToObj(i -> importLineParser.parse(firstLineNumber + i + 1, chunk.get(i)))
+                .toList();
+
+        importChunkWriter.write(jobId, parsed, chunk.size());
+    }
+
+    private ImportJob start() {
+        ImportJob job = new ImportJob();
+        job.setStatus(ImportStatus.RUNNING);
+        return importJobRepository.save(job);
+    }
+
+    private ImportJob resume(UUID jobId) {
+        Date staleBefore = new Date(System.currentTimeMillis() - staleAfterSeconds * 1000);
+
+        return transactionTemplate.execute(status -> {
+            if (importJobRepository.claim(jobId, staleBefore) == 0) {
+                if (!importJobRepository.existsById(jobId)) {
+                    throw new ImportJobNotFoundException("Import job not found with id " + jobId);
+                }
+                throw new ImportJobAlreadyRunningException("Import job " + jobId + " is still running");
+            }
+            return importJobRepository.findById(jobId).orElseThrow();
+        });
+    }
+
+    private ImportJobResponseDTO finish(UUID jobId, ImportStatus status, String error) {
+        return transactionTemplate.execute(tx -> {
+            ImportJob job = importJobRepository.findById(jobId).orElseThrow();
+            job.setStatus(status);
+            if (error != null) {
+                job.setLastError(StringUtils.truncate(error, 900));
+            }
+            return importJobMapper.toDTO(importJobRepository.saveAndFlush(job));
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package dev.tuchanski.api.service.importer;
+
+// A validated import line (value is one of the *ImportDTO records) or a rejected one (error is set).
+record ParsedLine(long lineNumber, Object value, String error) {
+
+    static ParsedLine valid(long lineNumber, Object value) {
+        return new ParsedLine(lineNumber, value, null);
+    }
+
+    static ParsedLine rejected(long lineNumber, String error) {
+        return new ParsedLine(lineNumber, null, error);
+    }
+
+    boolean isRejected() {
+        return error != null;
+    }
+}
@@ -1,14 +1,14 @@
 package dev.tuchanski.api.service.like;
 
 import dev.tuchanski.api.dto.like.LikeResponseDTO;
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface LikeService {
     LikeResponseDTO create(String token, UUID tweetId);
     LikeResponseDTO findById(UUID id);
-    List<LikeResponseDTO> findAllByTweet(UUID tweetId);
-    List<LikeResponseDTO> findAllByUser(String username);
+    CursorPageResponseDTO<LikeResponseDTO> findAllByTweet(UUID tweetId, String cursor, int size);
+    CursorPageResponseDTO<LikeResponseDTO> findAllByUser(String username, String cursor, int size);
     void deleteById(String token, UUID tweetId);
 }
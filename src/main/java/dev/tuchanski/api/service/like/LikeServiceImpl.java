@@ -1,6 +1,7 @@
 package dev.tuchanski.api.service.like;
 
 import dev.tuchanski.api.dto.like.LikeResponseDTO;
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
 import dev.tuchanski.api.entity.Like;
 import dev.tuchanski.api.entity.Tweet;
 import dev.tuchanski.api.entity.User;
@@ -8,12 +9,18 @@ import dev.tuchanski.api.exception.like.LikeAlreadyRegisteredException;
 import dev.tuchanski.api.exception.like.LikeNotFoundException;
 import dev.tuchanski.api.exception.tweet.TweetNotFoundException;
 import dev.tuchanski.api.exception.user.UserNotFoundException;
+import dev.tuchanski.api.infra.counter.CounterBuffer;
+import dev.tuchanski.api.infra.counter.CounterType;
+import dev.tuchanski.api.infra.pagination.Cursor;
+import dev.tuchanski.api.infra.pagination.CursorPagination;
 import dev.tuchanski.api.mapper.LikeMapper;
 import dev.tuchanski.api.repository.LikeRepository;
 import dev.tuchanski.api.repository.TweetRepository;
 import dev.tuchanski.api.repository.UserRepository;
 import dev.tuchanski.api.service.auth.TokenService;
+import dev.tuchanski.api.service.viewer.LikedTweetsFilterCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,24 +38,29 @@ public class LikeServiceImpl implements LikeService {
     private final TweetRepository tweetRepository;
     private final TokenService tokenService;
     private final LikeMapper likeMapper;
+    private final CounterBuffer counterBuffer;
+    private final LikedTweetsFilterCache likedTweetsFilterCache;
 
     @Override
     @Transactional
     public LikeResponseDTO create(String token, UUID tweetId) {
         User user = getUserFromToken(token);
 
-        Tweet tweet = tweetRepository.findById(tweetId).orElseThrow(
+        Tweet tweet = tweetRepository.findActiveById(tweetId).orElseThrow(
                 () -> new TweetNotFoundException("Tweet not found")
         );
 
-        if (likeRepository.existsByUserAndTweet(user, tweet)) {
-            throw new LikeAlreadyRegisteredException("Tweet is already liked by this user");
-        }
-
         Like like = new Like();
         like.setUser(user);
         like.setTweet(tweet);
-        like = likeRepository.save(like);
+
+        try {
+            like = likeRepository.saveAndFlush(like);
+        } catch (DataIntegrityViolationException e) {
+            throw new LikeAlreadyRegisteredException("Tweet is already liked by this user");
+        }
+        counterBuffer.add(CounterType.TWEET_LIKES, tweet.getId(), 1);
+        likedTweetsFilterCache.onLike(user.getId(), tweet.getId());
 
         return likeMapper.toDTO(like);
     }
@@ -63,31 +75,43 @@ public class LikeServiceImpl implements LikeService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<LikeResponseDTO> findAllByTweet(UUID tweetId) {
-        Tweet tweet = tweetRepository.findById(tweetId).orElseThrow(
+    public CursorPageResponseDTO<LikeResponseDTO> findAllByTweet(UUID tweetId, String cursor, int size) {
+        Tweet tweet = tweetRepository.findActiveById(tweetId).orElseThrow(
                 () -> new TweetNotFoundException("Tweet not found")
         );
 
-        return likeRepository.findAllByTweet(tweet).stream().map(likeMapper::toDTO).toList();
+        Cursor after = Cursor.decode(cursor);
+
+        List<Like> likes = after == null
+                ? likeRepository.findPageByTweet(tweet, CursorPagination.pageable(size))
+                : likeRepository.findPageByTweetAfter(tweet, after.createdAt(), after.id(), CursorPagination.pageable(size));
+
+        return CursorPagination.toPage(likes, size, Like::getCreatedAt, Like::getId, likeMapper::toDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<LikeResponseDTO> findAllByUser(String username) {
-        User user = (User) userRepository.findByUsername(username);
+    public CursorPageResponseDTO<LikeResponseDTO> findAllByUser(String username, String cursor, int size) {
+        User user = userRepository.findActiveByUsername(username);
 
         if (user == null) {
             throw new UserNotFoundException("User with name: " + username + " not found");
         }
 
-        return likeRepository.findAllByUser(user).stream().map(likeMapper::toDTO).toList();
+        Cursor after = Cursor.decode(cursor);
+
+        List<Like> likes = after == null
+                ? likeRepository.findPageByUser(user, CursorPagination.pageable(size))
+                : likeRepository.findPageByUserAfter(user, after.createdAt(), after.id(), CursorPagination.pageable(size));
+
+        return CursorPagination.toPage(likes, size, Like::getCreatedAt, Like::getId, likeMapper::toDTO);
     }
 
     @Override
     @Transactional
     public void deleteById(String token, UUID tweetId) {
         User user = getUserFromToken(token);
-        Tweet tweet = tweetRepository.findById(tweetId).orElseThrow(
+        Tweet tweet = tweetRepository.findActiveById(tweetId).orElseThrow(
                 () -> new TweetNotFoundException("Tweet not found")
         );
 
@@ -98,6 +122,7 @@ public class LikeServiceImpl implements LikeService {
         }
 
         likeRepository.delete(like);
+        counterBuffer.add(CounterType.TWEET_LIKES, tweet.getId(), -1);
     }
 
     private User getUserFromToken(String token) {
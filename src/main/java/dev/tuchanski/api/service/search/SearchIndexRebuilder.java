@@ -0,0 +1,36 @@
+package dev.tuchanski.api.service.search;
+
+import dev.tuchanski.api.infra.search.SearchDocument;
+import dev.tuchanski.api.infra.search.SearchIndex;
+import dev.tuchanski.api.repository.CommentRepository;
+import dev.tuchanski.api.repository.TweetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+// Reindexes from cursor-backed streams, one after the other, like the account export.
+@Component
+@RequiredArgsConstructor
+public class SearchIndexRebuilder {
+
+    private final SearchIndex searchIndex;
+    private final TweetRepository tweetRepository;
+    private final CommentRepository commentRepository;
+
+    @Async
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        searchIndex.rebuild(sink -> {
+            try (Stream<SearchDocument> tweets = tweetRepository.streamSearchDocuments()) {
+                tweets.forEach(sink);
+            }
+
+            try (Stream<SearchDocument> comments = commentRepository.streamSearchDocuments()) {
+                comments.forEach(sink);
+            }
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package dev.tuchanski.api.service.search;
+
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import dev.tuchanski.api.dto.search.SearchResultDTO;
+
+public interface SearchService {
+    CursorPageResponseDTO<SearchResultDTO> search(String query, String cursor, int size);
+    void rebuild();
+}
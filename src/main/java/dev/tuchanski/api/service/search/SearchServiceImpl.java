@@ -0,0 +1,86 @@
+package dev.tuchanski.api.service.search;
+
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import dev.tuchanski.api.dto.search.SearchResultDTO;
+import dev.tuchanski.api.exception.search.SearchIndexRebuildInProgressException;
+import dev.tuchanski.api.infra.pagination.CursorPagination;
+import dev.tuchanski.api.infra.search.SearchCursor;
+import dev.tuchanski.api.infra.search.SearchDocument;
+import dev.tuchanski.api.infra.search.SearchIndex;
+import dev.tuchanski.api.mapper.SearchResultMapper;
+import dev.tuchanski.api.repository.CommentRepository;
+import dev.tuchanski.api.repository.TweetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService {
+
+    private final SearchIndex searchIndex;
+    private final SearchIndexRebuilder searchIndexRebuilder;
+    private final TweetRepository tweetRepository;
+    private final CommentRepository commentRepository;
+    private final SearchResultMapper searchResultMapper;
+
+    // The index only ranks; what is shown comes from the database. Hits deleted there but not yet
+    // from the searcher are dropped, so a page can be shorter than requested.
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<SearchResultDTO> search(String query, String cursor, int size) {
+        int limit = CursorPagination.limit(size);
+        List<SearchIndex.Hit> hits;
+
+        try {
+            hits = searchIndex.search(query, SearchCursor.decode(cursor), limit + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<SearchIndex.Hit> page = hits.size() > limit ? hits.subList(0, limit) : hits;
+        String nextCursor = hits.size() > limit ? page.get(limit - 1).position().encode() : null;
+
+        List<UUID> tweetIds = page.stream().filter(hit -> hit.type().equals(SearchDocument.TWEET)).map(SearchIndex.Hit::id).toList();
+        List<UUID> commentIds = page.stream().filter(hit -> hit.type().equals(SearchDocument.COMMENT)).map(SearchIndex.Hit::id).toList();
+        Map<UUID, SearchResultDTO> results = new HashMap<>();
+
+        if (!tweetIds.isEmpty()) {
+            tweetRepository.findRowsByIds(tweetIds).forEach(row -> results.put(row.id(), searchResultMapper.toDTO(row)));
+        }
+
+        if (!commentIds.isEmpty()) {
+            commentRepository.findAllWithUserByIdIn(commentIds).forEach(comment -> results.put(comment.getId(), searchResultMapper.toDTO(comment)));
+        }
+
+        List<SearchResultDTO> content = page.stream().map(hit -> results.get(hit.id())).filter(Objects::nonNull).toList();
+        return new CursorPageResponseDTO<>(content, nextCursor);
+    }
+
+    @Override
+    public void rebuild() {
+        if (!searchIndex.startRebuild()) {
+            throw new SearchIndexRebuildInProgressException("The search index is already being rebuilt");
+        }
+
+        searchIndexRebuilder.rebuild();
+    }
+
+    // A new deployment, or a deleted index directory, starts out empty.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (searchIndex.isEmpty() && searchIndex.startRebuild()) {
+            searchIndexRebuilder.rebuild();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package dev.tuchanski.api.service.tag;
+
+import dev.tuchanski.api.dto.hashtag.TrendingHashtagDTO;
+import dev.tuchanski.api.entity.Tweet;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface TweetTagService {
+    void onTweetCreated(Tweet tweet);
+    void onTweetsImported(List<Tweet> tweets);
+    void onTweetUpdated(Tweet tweet, String previousContent);
+    void onTweetDeleted(Tweet tweet);
+    void onTweetsDeleted(Collection<UUID> tweetIds);
+    boolean onUserDeleted(UUID userId, int limit);
+    List<TrendingHashtagDTO> findTrending(int limit);
+}
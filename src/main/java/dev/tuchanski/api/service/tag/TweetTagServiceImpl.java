@@ -0,0 +1,135 @@
+package dev.tuchanski.api.service.tag;
+
+import dev.tuchanski.api.dto.hashtag.TrendingHashtagDTO;
+import dev.tuchanski.api.entity.Tweet;
+import dev.tuchanski.api.entity.TweetHashtag;
+import dev.tuchanski.api.entity.TweetMention;
+import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.infra.text.CollationKey;
+import dev.tuchanski.api.infra.trending.TrendingHashtags;
+import dev.tuchanski.api.repository.TweetHashtagRepository;
+import dev.tuchanski.api.repository.TweetMentionRepository;
+import dev.tuchanski.api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TweetTagServiceImpl implements TweetTagService {
+
+    public static final int MAX_TRENDING = 50;
+
+    private final TweetHashtagRepository tweetHashtagRepository;
+    private final TweetMentionRepository tweetMentionRepository;
+    private final UserRepository userRepository;
+    private final TrendingHashtags trendingHashtags;
+
+    @Override
+    @Transactional
+    public void onTweetCreated(Tweet tweet) {
+        save(List.of(tweet));
+        trendingHashtags.record(TweetTags.hashtags(tweet.getContent()));
+    }
+
+    // Imported tweets are history, not current activity, so they do not count towards trends.
+    @Override
+    @Transactional
+    public void onTweetsImported(List<Tweet> tweets) {
+        save(tweets);
+    }
+
+    // Rewrites the rows; only tags the edit added count towards trends.
+    @Override
+    @Transactional
+    public void onTweetUpdated(Tweet tweet, String previousContent) {
+        tweetHashtagRepository.deleteByTweetId(tweet.getId());
+        tweetMentionRepository.deleteByTweetId(tweet.getId());
+        save(List.of(tweet));
+
+        Set<String> added = TweetTags.hashtags(tweet.getContent());
+        added.removeAll(TweetTags.hashtags(previousContent));
+        trendingHashtags.record(added);
+    }
+
+    @Override
+    @Transactional
+    public void onTweetDeleted(Tweet tweet) {
+        tweetHashtagRepository.deleteByTweetId(tweet.getId());
+        tweetMentionRepository.deleteByTweetId(tweet.getId());
+    }
+
+    @Override
+    @Transactional
+    public void onTweetsDeleted(Collection<UUID> tweetIds) {
+        tweetHashtagRepository.deleteByTweetIdIn(tweetIds);
+        tweetMentionRepository.deleteByTweetIdIn(tweetIds);
+    }
+
+    // Removes at most limit rows; false once none are left.
+    @Override
+    @Transactional
+    public boolean onUserDeleted(UUID userId, int limit) {
+        List<UUID> tweetIds = tweetMentionRepository.findTweetIdsByUserId(userId, PageRequest.of(0, limit));
+
+        if (tweetIds.isEmpty()) {
+            return false;
+        }
+
+        tweetMentionRepository.deleteByUserIdAndTweetIdIn(userId, tweetIds);
+        return true;
+    }
+
+    @Override
+    public List<TrendingHashtagDTO> findTrending(int limit) {
+        return trendingHashtags.top(Math.clamp(limit, 1, MAX_TRENDING));
+    }
+
+    // Unknown usernames are not mentions; all of them are resolved with a single query. The query matches
+    // like the username column does, so users are looked up by CollationKey: @Alice mentions "alice",
+    // and @Alice next to @alice is one mention.
+    private void save(List<Tweet> tweets) {
+        List<TweetHashtag> hashtags = new ArrayList<>();
+        Map<Tweet, Set<String>> mentioned = new HashMap<>();
+        Set<String> usernames = new HashSet<>();
+
+        for (Tweet tweet : tweets) {
+            for (String tag : TweetTags.hashtags(tweet.getContent())) {
+                hashtags.add(new TweetHashtag(new TweetHashtag.Key(tweet.getId(), tag), tweet.getCreatedAt(), tweet));
+            }
+
+            Set<String> tweetMentions = TweetTags.mentions(tweet.getContent());
+            if (!tweetMentions.isEmpty()) {
+                mentioned.put(tweet, tweetMentions);
+                usernames.addAll(tweetMentions);
+            }
+        }
+
+        List<TweetMention> mentions = new ArrayList<>();
+
+        if (!usernames.isEmpty()) {
+            Map<String, User> users = new HashMap<>();
+            userRepository.findAllActiveByUsernameIn(usernames).forEach(user -> users.put(CollationKey.of(user.getUsername()), user));
+
+            mentioned.forEach((tweet, tweetMentions) -> tweetMentions.stream()
+                    .map(username -> users.get(CollationKey.of(username)))
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(user -> mentions.add(new TweetMention(new TweetMention.Key(tweet.getId(), user.getId()), tweet.getCreatedAt(), tweet))));
+        }
+
+        tweetHashtagRepository.saveAll(hashtags);
+        tweetMentionRepository.saveAll(mentions);
+    }
+}
@@ -0,0 +1,47 @@
+package dev.tuchanski.api.service.tag;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class TweetTags {
+
+    // Characters, as counted by the tag column.
+    private static final int MAX_HASHTAG_LENGTH = 50;
+
+    // A tag starts with a letter, so "#1" or "#" alone is not one; longer runs are not tags at all.
+    private static final Pattern HASHTAG = Pattern.compile("(?<![\\p{L}\\p{N}_#])#(\\p{L}[\\p{L}\\p{N}_]{0,49})(?![\\p{L}\\p{N}_])");
+    private static final Pattern MENTION = Pattern.compile("(?<![\\p{L}\\p{N}_@])@([\\p{L}\\p{N}_]{4,12})(?![\\p{L}\\p{N}_])");
+
+    private TweetTags() {
+    }
+
+    // Lower-cased, so #Java and #java are the same tag. Lower-casing can lengthen a tag (İ becomes
+    // two characters), so the length is checked afterwards.
+    public static Set<String> hashtags(String content) {
+        Set<String> tags = new LinkedHashSet<>();
+        Matcher matcher = HASHTAG.matcher(content);
+        while (matcher.find()) {
+            String tag = matcher.group(1).toLowerCase(Locale.ROOT);
+            if (tag.codePointCount(0, tag.length()) <= MAX_HASHTAG_LENGTH) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    public static Set<String> mentions(String content) {
+        Set<String> usernames = new LinkedHashSet<>();
+        Matcher matcher = MENTION.matcher(content);
+        while (matcher.find()) {
+            usernames.add(matcher.group(1));
+        }
+        return usernames;
+    }
+
+    public static String normalize(String tag) {
+        return tag.startsWith("#") ? tag.substring(1).toLowerCase(Locale.ROOT) : tag.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,36 @@
+package dev.tuchanski.api.service.timeline;
+
+import dev.tuchanski.api.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+
+// Ids of the authors whose tweets are pulled into home timelines on read. Only accounts above the
+// fan-out threshold qualify, so the set stays small; it is reloaded as often as counters are flushed,
+// so it trails users.follower_count by at most one more interval.
+@Component
+@RequiredArgsConstructor
+public class HighFanOutAuthors {
+
+    private final UserRepository userRepository;
+
+    @Value("${api.timeline.fanout-threshold}")
+    private long fanOutThreshold;
+
+    private volatile Set<UUID> authorIds = Set.of();
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${api.counters.flush-interval-ms}")
+    public void refresh() {
+        authorIds = Set.copyOf(userRepository.findActiveIdsWithMoreFollowersThan(fanOutThreshold));
+    }
+
+    public Set<UUID> get() {
+        return authorIds;
+    }
+}
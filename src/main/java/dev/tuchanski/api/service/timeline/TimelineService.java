@@ -0,0 +1,23 @@
+package dev.tuchanski.api.service.timeline;
+
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import dev.tuchanski.api.dto.tweet.TweetResponseDTO;
+import dev.tuchanski.api.entity.Follow;
+import dev.tuchanski.api.entity.Tweet;
+import dev.tuchanski.api.entity.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface TimelineService {
+    CursorPageResponseDTO<TweetResponseDTO> getHomeTimeline(String token, String cursor, int size);
+    void fanOut(Tweet tweet);
+    void fanOutAll(List<Tweet> tweets);
+    void onFollow(User follower, User followed);
+    void onFollowAll(List<Follow> follows);
+    void onUnfollow(User follower, User followed);
+    void onTweetDeleted(Tweet tweet);
+    void onTweetsDeleted(Collection<UUID> tweetIds);
+    boolean onUserDeleted(UUID userId, int limit);
+}
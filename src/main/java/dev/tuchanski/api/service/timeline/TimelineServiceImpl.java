@@ -0,0 +1,184 @@
+package dev.tuchanski.api.service.timeline;
+
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import dev.tuchanski.api.dto.tweet.TweetResponseDTO;
+import dev.tuchanski.api.dto.tweet.TweetRowDTO;
+import dev.tuchanski.api.entity.Follow;
+import dev.tuchanski.api.entity.Tweet;
+import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.infra.pagination.Cursor;
+import dev.tuchanski.api.infra.pagination.CursorPagination;
+import dev.tuchanski.api.repository.FollowRepository;
+import dev.tuchanski.api.repository.TimelineRepository;
+import dev.tuchanski.api.repository.TweetRepository;
+import dev.tuchanski.api.repository.UserRepository;
+import dev.tuchanski.api.service.auth.TokenService;
+import dev.tuchanski.api.service.tweet.TweetViewAssembler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static dev.tuchanski.api.service.user.UserServiceImpl.getUser;
+
+@Service
+@RequiredArgsConstructor
+public class TimelineServiceImpl implements TimelineService {
+
+    private final TimelineRepository timelineRepository;
+    private final FollowRepository followRepository;
+    private final TweetRepository tweetRepository;
+    private final UserRepository userRepository;
+    private final TokenService tokenService;
+    private final TweetViewAssembler tweetViewAssembler;
+    private final HighFanOutAuthors highFanOutAuthors;
+
+    // Authors with more followers than this are not fanned out on write; their tweets are merged in on read.
+    // Writes decide on users.follower_count, which trails new follows by at most one counter flush; reads
+    // on HighFanOutAuthors, which trails it by at most one more.
+    @Value("${api.timeline.fanout-threshold}")
+    private long fanOutThreshold;
+
+    @Value("${api.timeline.backfill-size}")
+    private int backfillSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TweetResponseDTO> getHomeTimeline(String token, String cursor, int size) {
+        User user = getUser(token, tokenService, userRepository);
+        Cursor after = Cursor.decode(cursor);
+        Pageable page = CursorPagination.pageable(size);
+
+        List<TweetRowDTO> tweets = after == null
+                ? timelineRepository.findTweetsByOwnerId(user.getId(), page)
+                : timelineRepository.findTweetsByOwnerIdAfter(user.getId(), after.createdAt(), after.id(), page);
+
+        // Only the few high fan-out authors are checked against the viewer's follows, never the whole following list.
+        Set<UUID> candidates = highFanOutAuthors.get();
+        List<UUID> pulledAuthors = candidates.isEmpty() ? List.of() : followRepository.findFollowedIdsIn(user.getId(), candidates);
+
+        if (!pulledAuthors.isEmpty()) {
+            List<TweetRowDTO> pulled = after == null
+                    ? tweetRepository.findRecentByUserIds(pulledAuthors, page)
+                    : tweetRepository.findRecentByUserIdsAfter(pulledAuthors, after.createdAt(), after.id(), page);
+
+            Map<UUID, TweetRowDTO> merged = new LinkedHashMap<>();
+            tweets.forEach(tweet -> merged.put(tweet.id(), tweet));
+            pulled.forEach(tweet -> merged.putIfAbsent(tweet.id(), tweet));
+
+            tweets = merged.values().stream()
+                    .sorted(CursorPagination.newestFirst(TweetRowDTO::createdAt, TweetRowDTO::id))
+                    .limit(page.getPageSize())
+                    .toList();
+        }
+
+        return CursorPagination.toBatchPage(tweets, size, TweetRowDTO::createdAt, TweetRowDTO::id, tweetViewAssembler::toDTOs);
+    }
+
+    @Override
+    @Transactional
+    public void fanOut(Tweet tweet) {
+        // Read from the database: the author is usually the cached principal, whose count can be minutes old.
+        UUID authorId = tweet.getUser().getId();
+        if (!userRepository.findIdsWithMoreFollowersThan(Set.of(authorId), fanOutThreshold).isEmpty()) {
+            timelineRepository.pushToAuthor(tweet.getId());
+            return;
+        }
+
+        timelineRepository.fanOutToFollowers(tweet.getId());
+    }
+
+    // Same as fanOut for many tweets, with one follower-count query and at most two statements.
+    @Override
+    @Transactional
+    public void fanOutAll(List<Tweet> tweets) {
+        if (tweets.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> highFanOutAuthors = new HashSet<>(userRepository.findIdsWithMoreFollowersThan(
+                tweets.stream().map(tweet -> tweet.getUser().getId()).collect(Collectors.toSet()), fanOutThreshold));
+
+        Map<Boolean, List<UUID>> tweetIds = tweets.stream().collect(Collectors.partitioningBy(
+                tweet -> highFanOutAuthors.contains(tweet.getUser().getId()),
+                Collectors.mapping(Tweet::getId, Collectors.toList())));
+
+        if (!tweetIds.get(true).isEmpty()) {
+            timelineRepository.pushAllToAuthor(tweetIds.get(true));
+        }
+
+        if (!tweetIds.get(false).isEmpty()) {
+            timelineRepository.fanOutAllToFollowers(tweetIds.get(false));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void onFollow(User follower, User followed) {
+        if (followed.getFollowerCount() > fanOutThreshold) {
+            return;
+        }
+
+        timelineRepository.backfill(follower.getId(), followed.getId(), backfillSize);
+    }
+
+    @Override
+    @Transactional
+    public void onFollowAll(List<Follow> follows) {
+        if (follows.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> highFanOutAuthors = new HashSet<>(userRepository.findIdsWithMoreFollowersThan(
+                follows.stream().map(follow -> follow.getFollowed().getId()).collect(Collectors.toSet()), fanOutThreshold));
+
+        for (Follow follow : follows) {
+            if (!highFanOutAuthors.contains(follow.getFollowed().getId())) {
+                timelineRepository.backfill(follow.getFollower().getId(), follow.getFollowed().getId(), backfillSize);
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void onUnfollow(User follower, User followed) {
+        timelineRepository.deleteByOwnerIdAndAuthorId(follower.getId(), followed.getId());
+    }
+
+    @Override
+    @Transactional
+    public void onTweetDeleted(Tweet tweet) {
+        timelineRepository.deleteByTweetId(tweet.getId());
+    }
+
+    @Override
+    @Transactional
+    public void onTweetsDeleted(Collection<UUID> tweetIds) {
+        timelineRepository.deleteByTweetIdIn(tweetIds);
+    }
+
+    // Removes at most limit rows; false once none are left.
+    @Override
+    @Transactional
+    public boolean onUserDeleted(UUID userId, int limit) {
+        List<UUID> tweetIds = timelineRepository.findTweetIdsByOwnerId(userId, PageRequest.of(0, limit));
+
+        if (tweetIds.isEmpty()) {
+            return false;
+        }
+
+        timelineRepository.deleteByOwnerIdAndTweetIdIn(userId, tweetIds);
+        return true;
+    }
+}
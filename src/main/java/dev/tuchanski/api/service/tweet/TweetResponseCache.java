@@ -0,0 +1,63 @@
+package dev.tuchanski.api.service.tweet;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.tuchanski.api.dto.tweet.TaggedTweetDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Single-tweet responses (with the comment preview) by tweet id, each with the ETag it was loaded with.
+// Edits and comment writes evict the entry; like and comment counts are write-behind anyway, so they
+// may lag by up to the TTL, and the cached tag lags with them.
+@Component
+public class TweetResponseCache {
+
+    private final Cache<UUID, TaggedTweetDTO> cache;
+
+    public TweetResponseCache(@Value("${api.tweets.cache.max-size}") long maxSize,
+                              @Value("${api.tweets.cache.ttl-seconds}") long ttlSeconds,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tweets");
+    }
+
+    // Concurrent misses for the same tweet wait for a single load.
+    public TaggedTweetDTO get(UUID tweetId, Function<UUID, TaggedTweetDTO> loader) {
+        return cache.get(tweetId, loader);
+    }
+
+    public void invalidate(UUID tweetId) {
+        evict(() -> cache.invalidate(tweetId));
+    }
+
+    public void invalidateAll() {
+        evict(cache::invalidateAll);
+    }
+
+    // Evicting again after commit keeps a concurrent request from re-caching the pre-update rows.
+    private void evict(Runnable eviction) {
+        eviction.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
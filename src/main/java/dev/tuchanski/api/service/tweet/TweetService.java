@@ -1,16 +1,20 @@
 package dev.tuchanski.api.service.tweet;
 
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import dev.tuchanski.api.dto.tweet.TaggedTweetDTO;
 import dev.tuchanski.api.dto.tweet.TweetRequestDTO;
 import dev.tuchanski.api.dto.tweet.TweetResponseDTO;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface TweetService {
     TweetResponseDTO create(String token, TweetRequestDTO tweetRequestDTO);
-    List<TweetResponseDTO> findAll();
-    List<TweetResponseDTO> findAllByUsername(String username);
-    TweetResponseDTO findById(UUID id);
-    TweetResponseDTO update(String token, UUID id, TweetRequestDTO tweetRequestDTO);
+    CursorPageResponseDTO<TweetResponseDTO> findAll(String cursor, int size);
+    CursorPageResponseDTO<TweetResponseDTO> findAllByUsername(String username, String cursor, int size);
+    CursorPageResponseDTO<TweetResponseDTO> findAllByHashtag(String hashtag, String cursor, int size);
+    CursorPageResponseDTO<TweetResponseDTO> findAllMentioning(String username, String cursor, int size);
+    TweetResponseDTO findById(UUID id, boolean allComments);
+    String findETag(UUID id, boolean allComments);
+    TaggedTweetDTO update(String token, UUID id, TweetRequestDTO tweetRequestDTO, String ifMatch);
     void delete(String token, UUID id);
 }
@@ -1,22 +1,38 @@
 package dev.tuchanski.api.service.tweet;
 
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
+import dev.tuchanski.api.dto.tweet.TaggedTweetDTO;
 import dev.tuchanski.api.dto.tweet.TweetRequestDTO;
 import dev.tuchanski.api.dto.tweet.TweetResponseDTO;
+import dev.tuchanski.api.dto.tweet.TweetRowDTO;
+import dev.tuchanski.api.dto.tweet.TweetVersionDTO;
 import dev.tuchanski.api.entity.Tweet;
 import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.exception.edit.EditConflictException;
 import dev.tuchanski.api.exception.tweet.ContentIsTheSameException;
 import dev.tuchanski.api.exception.tweet.TweetNotBelongToUserException;
 import dev.tuchanski.api.exception.tweet.TweetNotFoundException;
 import dev.tuchanski.api.exception.user.UserNotFoundException;
+import dev.tuchanski.api.infra.http.ETags;
+import dev.tuchanski.api.infra.pagination.Cursor;
+import dev.tuchanski.api.infra.pagination.CursorPagination;
+import dev.tuchanski.api.infra.search.SearchDocument;
+import dev.tuchanski.api.infra.search.SearchIndex;
 import dev.tuchanski.api.mapper.TweetMapper;
+import dev.tuchanski.api.repository.CommentRepository;
+import dev.tuchanski.api.repository.LikeRepository;
+import dev.tuchanski.api.repository.TweetHashtagRepository;
+import dev.tuchanski.api.repository.TweetMentionRepository;
 import dev.tuchanski.api.repository.TweetRepository;
 import dev.tuchanski.api.repository.UserRepository;
 import dev.tuchanski.api.service.auth.TokenService;
+import dev.tuchanski.api.service.tag.TweetTagService;
+import dev.tuchanski.api.service.tag.TweetTags;
+import dev.tuchanski.api.service.timeline.TimelineService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,6 +46,15 @@ public class TweetServiceImpl implements TweetService {
     private final TokenService tokenService;
     private final UserRepository userRepository;
     private final TweetMapper tweetMapper;
+    private final TimelineService timelineService;
+    private final TweetViewAssembler tweetViewAssembler;
+    private final SearchIndex searchIndex;
+    private final TweetTagService tweetTagService;
+    private final TweetResponseCache tweetResponseCache;
+    private final TweetHashtagRepository tweetHashtagRepository;
+    private final TweetMentionRepository tweetMentionRepository;
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
 
     @Override
     @Transactional
@@ -37,53 +62,123 @@ public class TweetServiceImpl implements TweetService {
         User user = getUserFromToken(token);
         Tweet tweet = tweetMapper.toEntity(tweetRequestDTO);
         tweet.setUser(user);
-        tweet = tweetRepository.save(tweet);
-        return tweetMapper.toDTO(tweet);
+        tweet = tweetRepository.saveAndFlush(tweet);
+        timelineService.fanOut(tweet);
+        searchIndex.index(SearchDocument.of(tweet));
+        tweetTagService.onTweetCreated(tweet);
+        return tweetMapper.toDTO(tweet, List.of());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TweetResponseDTO> findAll() {
-        return tweetRepository.findAll().stream().map(tweetMapper::toDTO).toList();
+    public CursorPageResponseDTO<TweetResponseDTO> findAll(String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+
+        List<TweetRowDTO> tweets = after == null
+                ? tweetRepository.findRowPage(CursorPagination.pageable(size))
+                : tweetRepository.findRowPageAfter(after.createdAt(), after.id(), CursorPagination.pageable(size));
+
+        return CursorPagination.toBatchPage(tweets, size, TweetRowDTO::createdAt, TweetRowDTO::id, tweetViewAssembler::toDTOs);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TweetResponseDTO> findAllByUsername(String username, String cursor, int size) {
+        if (!userRepository.existsByUsernameAndDeletedAtIsNull(username)) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        Cursor after = Cursor.decode(cursor);
+
+        List<TweetRowDTO> tweets = after == null
+                ? tweetRepository.findRowPageByUsername(username, CursorPagination.pageable(size))
+                : tweetRepository.findRowPageByUsernameAfter(username, after.createdAt(), after.id(), CursorPagination.pageable(size));
+
+        return CursorPagination.toBatchPage(tweets, size, TweetRowDTO::createdAt, TweetRowDTO::id, tweetViewAssembler::toDTOs);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TweetResponseDTO> findAllByUsername(String username) {
-        User user = (User) userRepository.findByUsername(username);
+    public CursorPageResponseDTO<TweetResponseDTO> findAllByHashtag(String hashtag, String cursor, int size) {
+        String tag = TweetTags.normalize(hashtag);
+        Cursor after = Cursor.decode(cursor);
+
+        List<TweetRowDTO> tweets = after == null
+                ? tweetHashtagRepository.findTweetsByTag(tag, CursorPagination.pageable(size))
+                : tweetHashtagRepository.findTweetsByTagAfter(tag, after.createdAt(), after.id(), CursorPagination.pageable(size));
+
+        return CursorPagination.toBatchPage(tweets, size, TweetRowDTO::createdAt, TweetRowDTO::id, tweetViewAssembler::toDTOs);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TweetResponseDTO> findAllMentioning(String username, String cursor, int size) {
+        User user = userRepository.findActiveByUsername(username);
 
         if (user == null) {
             throw new UserNotFoundException("User not found");
         }
 
-        return tweetRepository.findAllByUser(user).stream().map(tweetMapper::toDTO).toList();
+        Cursor after = Cursor.decode(cursor);
+
+        List<TweetRowDTO> tweets = after == null
+                ? tweetMentionRepository.findTweetsByUserId(user.getId(), CursorPagination.pageable(size))
+                : tweetMentionRepository.findTweetsByUserIdAfter(user.getId(), after.createdAt(), after.id(), CursorPagination.pageable(size));
+
+        return CursorPagination.toBatchPage(tweets, size, TweetRowDTO::createdAt, TweetRowDTO::id, tweetViewAssembler::toDTOs);
+    }
+
+    // Not transactional, so a cache hit never borrows a connection; both reads are projections or fetch joins.
+    // The full comment list is unbounded, so only the preview response is cached.
+    @Override
+    public TweetResponseDTO findById(UUID id, boolean allComments) {
+        if (allComments) {
+            return load(id, true);
+        }
+
+        return tweetResponseCache.get(id, this::loadPreview).tweet();
     }
 
+    // The preview's tag is the one cached with it, so it always describes the cached body; the full
+    // representation's tag is one primary-key read. Either is read before the body it is sent with, so
+    // it is never newer than that body and a 304 never confirms a stale one.
     @Override
-    @Transactional(readOnly = true)
-    public TweetResponseDTO findById(UUID id) {
-        return tweetMapper.toDTO(tweetRepository.findById(id).orElseThrow(() -> new TweetNotFoundException("Tweet not found")));
+    public String findETag(UUID id, boolean allComments) {
+        if (allComments) {
+            return ETags.of(findVersion(id), true);
+        }
+
+        return tweetResponseCache.get(id, this::loadPreview).eTag();
     }
 
     @Override
     @Transactional
-    public TweetResponseDTO update(String token, UUID id, TweetRequestDTO tweetRequestDTO) {
+    public TaggedTweetDTO update(String token, UUID id, TweetRequestDTO tweetRequestDTO, String ifMatch) {
         User user = getUserFromToken(token);
 
-        Tweet tweet = tweetRepository.findById(id).orElseThrow(() -> new TweetNotFoundException("Tweet not found"));
+        Tweet tweet = tweetRepository.findWithUserById(id).orElseThrow(() -> new TweetNotFoundException("Tweet not found"));
 
         if (!tweet.getUser().getUsername().equals(user.getUsername())) {
             throw new TweetNotBelongToUserException("User does not belong to this tweet");
         }
 
+        if (!ETags.matchesVersion(ifMatch, tweet.getVersion())) {
+            throw new EditConflictException("Tweet was modified since it was read");
+        }
+
         if (tweet.getContent().equals(tweetRequestDTO.content())) {
             throw new ContentIsTheSameException("Tweet content cannot be the same as tweet content");
         }
 
+        String previousContent = tweet.getContent();
         tweet.setContent(tweetRequestDTO.content());
-        tweet.setUpdatedAt(new Date());
+        searchIndex.index(SearchDocument.of(tweet));
+        tweetTagService.onTweetUpdated(tweet, previousContent);
+        tweetResponseCache.invalidate(tweet.getId());
 
-        return tweetMapper.toDTO(tweetRepository.save(tweet));
+        // Flushed here so the response and its tag carry the new version and updatedAt.
+        tweet = tweetRepository.saveAndFlush(tweet);
+        return new TaggedTweetDTO(ETags.of(tweetMapper.toVersionDTO(tweet), false), tweetViewAssembler.toDTO(tweet, false));
     }
 
     @Override
@@ -96,10 +191,32 @@ public class TweetServiceImpl implements TweetService {
             throw new TweetNotBelongToUserException("User does not belong to this tweet");
         }
 
+        // Set-based deletes: a viral tweet's likes and comments are never loaded into the session.
+        likeRepository.deleteByTweetId(tweet.getId());
+        commentRepository.deleteByTweetId(tweet.getId());
+        timelineService.onTweetDeleted(tweet);
+        searchIndex.deleteTweet(tweet.getId());
+        tweetTagService.onTweetDeleted(tweet);
+        tweetResponseCache.invalidate(tweet.getId());
         tweetRepository.delete(tweet);
     }
 
 
+    // The tag is read first: whatever changes before the body is loaded makes the cached tag older, never newer.
+    private TaggedTweetDTO loadPreview(UUID id) {
+        String eTag = ETags.of(findVersion(id), false);
+        return new TaggedTweetDTO(eTag, load(id, false));
+    }
+
+    private TweetVersionDTO findVersion(UUID id) {
+        return tweetRepository.findVersionById(id).orElseThrow(() -> new TweetNotFoundException("Tweet not found"));
+    }
+
+    private TweetResponseDTO load(UUID id, boolean allComments) {
+        TweetRowDTO tweet = tweetRepository.findRowById(id).orElseThrow(() -> new TweetNotFoundException("Tweet not found"));
+        return tweetViewAssembler.toDTO(tweet, allComments);
+    }
+
     private User getUserFromToken(String token) {
         return getUser(token, tokenService, userRepository);
     }
@@ -0,0 +1,71 @@
+package dev.tuchanski.api.service.tweet;
+
+import dev.tuchanski.api.dto.comment.CommentResponseDTO;
+import dev.tuchanski.api.dto.tweet.TweetResponseDTO;
+import dev.tuchanski.api.dto.tweet.TweetRowDTO;
+import dev.tuchanski.api.entity.Tweet;
+import dev.tuchanski.api.mapper.CommentMapper;
+import dev.tuchanski.api.mapper.TweetMapper;
+import dev.tuchanski.api.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Builds tweet responses without touching lazy associations: reads arrive as TweetRowDTO projections (or,
+// after a write, as a tweet with its author fetched), and comments are loaded in one query for the whole batch.
+@Component
+@RequiredArgsConstructor
+public class TweetViewAssembler {
+
+    private final CommentRepository commentRepository;
+    private final CommentMapper commentMapper;
+    private final TweetMapper tweetMapper;
+
+    @Value("${api.tweets.comment-preview-size}")
+    private int commentPreviewSize;
+
+    public TweetResponseDTO toDTO(Tweet tweet, boolean allComments) {
+        if (!allComments) {
+            return tweetMapper.toDTO(tweet, previews(List.of(tweet.getId())).getOrDefault(tweet.getId(), List.of()));
+        }
+
+        return tweetMapper.toDTO(tweet, allComments(tweet.getId()));
+    }
+
+    public TweetResponseDTO toDTO(TweetRowDTO row, boolean allComments) {
+        if (!allComments) {
+            return toDTOs(List.of(row)).getFirst();
+        }
+
+        return tweetMapper.toDTO(row, allComments(row.id()));
+    }
+
+    public List<TweetResponseDTO> toDTOs(List<TweetRowDTO> rows) {
+        Map<UUID, List<CommentResponseDTO>> previews = previews(rows.stream().map(TweetRowDTO::id).toList());
+
+        return rows.stream()
+                .map(row -> tweetMapper.toDTO(row, previews.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+
+    private Map<UUID, List<CommentResponseDTO>> previews(List<UUID> tweetIds) {
+        if (tweetIds.isEmpty() || commentPreviewSize <= 0) {
+            return Map.of();
+        }
+
+        return commentRepository.findPreviewByTweetIds(tweetIds, commentPreviewSize)
+                .stream()
+                .map(commentMapper::toDTO)
+                .collect(Collectors.groupingBy(CommentResponseDTO::tweetId));
+    }
+
+    private List<CommentResponseDTO> allComments(UUID tweetId) {
+        return commentRepository.findAllWithUserByTweetId(tweetId)
+                .stream().map(commentMapper::toDTO).toList();
+    }
+}
@@ -0,0 +1,188 @@
+package dev.tuchanski.api.service.user;
+
+import dev.tuchanski.api.entity.Comment;
+import dev.tuchanski.api.entity.Follow;
+import dev.tuchanski.api.entity.Like;
+import dev.tuchanski.api.infra.counter.CounterBuffer;
+import dev.tuchanski.api.infra.counter.CounterType;
+import dev.tuchanski.api.infra.security.PrincipalCache;
+import dev.tuchanski.api.repository.CommentRepository;
+import dev.tuchanski.api.repository.FollowRepository;
+import dev.tuchanski.api.repository.LikeRepository;
+import dev.tuchanski.api.repository.TweetRepository;
+import dev.tuchanski.api.repository.UserRepository;
+import dev.tuchanski.api.service.tag.TweetTagService;
+import dev.tuchanski.api.service.timeline.TimelineService;
+import dev.tuchanski.api.service.tweet.TweetResponseCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Removes a deleted account's rows a chunk at a time, each chunk in its own short transaction, so
+// no statement locks millions of rows and counters on other users' rows are corrected as it goes.
+// The account row goes last, in a transaction that first checks nothing was written for it since;
+// a row slipping in between fails the delete, which is then retried. An interrupted purge is picked
+// up again at the next startup.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountPurger {
+
+    private static final int MAX_DELETE_ATTEMPTS = 3;
+
+    private final UserRepository userRepository;
+    private final FollowRepository followRepository;
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final TweetRepository tweetRepository;
+    private final TimelineService timelineService;
+    private final TweetTagService tweetTagService;
+    private final CounterBuffer counterBuffer;
+    private final TweetResponseCache tweetResponseCache;
+    private final PrincipalCache principalCache;
+    private final TransactionTemplate transactionTemplate;
+
+    // Two purges of the same account would both count the rows they select.
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+
+    @Value("${api.deletion.chunk-size}")
+    private int chunkSize;
+
+    @Async
+    public void purge(UUID userId) {
+        if (!running.add(userId)) {
+            return;
+        }
+
+        try {
+            long started = System.currentTimeMillis();
+            long chunks = 0;
+            int failedDeletes = 0;
+
+            // Cached tweets may still carry the account's comments; reads no longer return it.
+            tweetResponseCache.invalidateAll();
+
+            while (true) {
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> purgeChunkOrDelete(userId)))) {
+                        break;
+                    }
+                    chunks++;
+                } catch (DataIntegrityViolationException e) {
+                    if (++failedDeletes >= MAX_DELETE_ATTEMPTS) {
+                        throw e;
+                    }
+                }
+            }
+
+            log.info("Purged account {} in {} chunks, {} ms", userId, chunks, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("Failed to purge account {}; it is resumed at the next startup", userId, e);
+        } finally {
+            running.remove(userId);
+        }
+    }
+
+    // One chunk per transaction; true once the account row itself is gone.
+    private boolean purgeChunkOrDelete(UUID userId) {
+        if (purgeChunk(userId)) {
+            return false;
+        }
+
+        userRepository.findById(userId).ifPresent(user -> {
+            userRepository.delete(user);
+            userRepository.flush();
+            principalCache.invalidate(user.getUsername());
+        });
+        return true;
+    }
+
+    // One step per chunk, in dependency order; false once nothing is left.
+    private boolean purgeChunk(UUID userId) {
+        return timelineService.onUserDeleted(userId, chunkSize)
+                || tweetTagService.onUserDeleted(userId, chunkSize)
+                || purgeFollows(userId)
+                || purgeLikes(userId)
+                || purgeComments(userId)
+                || purgeTweets(userId);
+    }
+
+    private boolean purgeFollows(UUID userId) {
+        List<Follow> follows = followRepository.findChunkByUserId(userId, PageRequest.of(0, chunkSize));
+
+        for (Follow follow : follows) {
+            UUID followerId = follow.getFollower().getId();
+            UUID followedId = follow.getFollowed().getId();
+
+            if (followerId.equals(userId)) {
+                counterBuffer.add(CounterType.USER_FOLLOWERS, followedId, -1);
+            } else {
+                counterBuffer.add(CounterType.USER_FOLLOWING, followerId, -1);
+            }
+        }
+
+        followRepository.deleteAllInBatch(follows);
+        return !follows.isEmpty();
+    }
+
+    private boolean purgeLikes(UUID userId) {
+        List<Like> likes = likeRepository.findChunkByUserId(userId, PageRequest.of(0, chunkSize));
+
+        likes.forEach(like -> counterBuffer.add(CounterType.TWEET_LIKES, like.getTweet().getId(), -1));
+        likeRepository.deleteAllInBatch(likes);
+        return !likes.isEmpty();
+    }
+
+    private boolean purgeComments(UUID userId) {
+        List<Comment> comments = commentRepository.findChunkByUserId(userId, PageRequest.of(0, chunkSize));
+        Map<UUID, Long> perTweet = comments.stream()
+                .collect(Collectors.groupingBy(comment -> comment.getTweet().getId(), Collectors.counting()));
+
+        perTweet.forEach((tweetId, count) -> {
+            counterBuffer.add(CounterType.TWEET_COMMENTS, tweetId, -count);
+            counterBuffer.add(CounterType.TWEET_COMMENTS_VERSION, tweetId, 1);
+            tweetResponseCache.invalidate(tweetId);
+        });
+        commentRepository.deleteAllInBatch(comments);
+        return !comments.isEmpty();
+    }
+
+    // Whatever other users attached to these tweets goes first, at most a chunk of likes or comments
+    // per transaction, however viral a tweet was; the tweets follow once nothing is left on them.
+    private boolean purgeTweets(UUID userId) {
+        List<UUID> tweetIds = tweetRepository.findIdChunkByUserId(userId, PageRequest.of(0, chunkSize));
+
+        if (tweetIds.isEmpty()) {
+            return false;
+        }
+
+        List<UUID> likeIds = likeRepository.findIdChunkByTweetIdIn(tweetIds, PageRequest.of(0, chunkSize));
+        if (!likeIds.isEmpty()) {
+            likeRepository.deleteAllByIdInBatch(likeIds);
+            return true;
+        }
+
+        List<UUID> commentIds = commentRepository.findIdChunkByTweetIdIn(tweetIds, PageRequest.of(0, chunkSize));
+        if (!commentIds.isEmpty()) {
+            commentRepository.deleteAllByIdInBatch(commentIds);
+            return true;
+        }
+
+        timelineService.onTweetsDeleted(tweetIds);
+        tweetTagService.onTweetsDeleted(tweetIds);
+        tweetRepository.deleteByIdIn(tweetIds);
+        return true;
+    }
+}
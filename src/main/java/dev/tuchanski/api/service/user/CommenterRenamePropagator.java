@@ -0,0 +1,57 @@
+package dev.tuchanski.api.service.user;
+
+import dev.tuchanski.api.repository.CommentRepository;
+import dev.tuchanski.api.repository.TweetRepository;
+import dev.tuchanski.api.service.tweet.TweetResponseCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+// Comment previews show their author's username, so a rename changes the ETag of every tweet the
+// user commented on. Those tweets are walked in tweet id order after the rename commits, a chunk per
+// short transaction, so no statement locks every tweet a prolific commenter ever replied to.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommenterRenamePropagator {
+
+    private static final UUID FIRST = new UUID(0L, 0L);
+
+    private final CommentRepository commentRepository;
+    private final TweetRepository tweetRepository;
+    private final TweetResponseCache tweetResponseCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${api.users.rename-chunk-size}")
+    private int chunkSize;
+
+    @Async
+    public void propagate(UUID userId) {
+        UUID after = FIRST;
+        long tweets = 0;
+
+        try {
+            while (true) {
+                List<UUID> tweetIds = commentRepository.findTweetIdChunkByUserIdAfter(userId, after, PageRequest.of(0, chunkSize));
+
+                if (tweetIds.isEmpty()) {
+                    break;
+                }
+
+                transactionTemplate.executeWithoutResult(status -> tweetRepository.bumpCommentsVersionIn(tweetIds));
+                tweetIds.forEach(tweetResponseCache::invalidate);
+                tweets += tweetIds.size();
+                after = tweetIds.getLast();
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to propagate the rename of user {} after {} tweets", userId, tweets, e);
+        }
+    }
+}
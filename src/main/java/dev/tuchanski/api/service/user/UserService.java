@@ -1,17 +1,19 @@
 package dev.tuchanski.api.service.user;
 
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
 import dev.tuchanski.api.dto.user.UserRequestDTO;
 import dev.tuchanski.api.dto.user.UserResponseDTO;
 import dev.tuchanski.api.dto.user.UserUpdateDTO;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface UserService {
     UserResponseDTO create(UserRequestDTO userRequestDTO);
-    List<UserResponseDTO> findAll();
+    CursorPageResponseDTO<UserResponseDTO> findAll(String cursor, int size);
     UserResponseDTO findById(UUID id);
     UserResponseDTO findByUsername(String username);
+    String findETag(UUID id);
+    String findETagByUsername(String username);
     UserResponseDTO update(UUID id, UserUpdateDTO userUpdateDTO);
     UserResponseDTO addAdmin(UUID id);
     void delete(UUID id);
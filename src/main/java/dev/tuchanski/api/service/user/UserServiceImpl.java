@@ -1,21 +1,37 @@
 package dev.tuchanski.api.service.user;
 
+import dev.tuchanski.api.dto.page.CursorPageResponseDTO;
 import dev.tuchanski.api.dto.user.UserRequestDTO;
 import dev.tuchanski.api.dto.user.UserResponseDTO;
 import dev.tuchanski.api.dto.user.UserUpdateDTO;
+import dev.tuchanski.api.entity.BootstrapFlag;
 import dev.tuchanski.api.entity.User;
 import dev.tuchanski.api.entity.enums.UserRole;
 import dev.tuchanski.api.exception.auth.InvalidTokenException;
 import dev.tuchanski.api.exception.user.UserAlreadyRegisteredException;
 import dev.tuchanski.api.exception.user.UserNotFoundException;
+import dev.tuchanski.api.infra.http.ETags;
+import dev.tuchanski.api.infra.pagination.Cursor;
+import dev.tuchanski.api.infra.pagination.CursorPagination;
+import dev.tuchanski.api.infra.search.SearchIndex;
+import dev.tuchanski.api.infra.security.PrincipalCache;
 import dev.tuchanski.api.mapper.UserMapper;
+import dev.tuchanski.api.repository.BootstrapFlagRepository;
 import dev.tuchanski.api.repository.UserRepository;
 import dev.tuchanski.api.service.auth.TokenService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +43,14 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final PrincipalCache principalCache;
+    private final BootstrapFlagRepository bootstrapFlagRepository;
+    private final SearchIndex searchIndex;
+    private final AccountPurger accountPurger;
+    private final CommenterRenamePropagator commenterRenamePropagator;
+
+    // Set once the first admin is known to be committed, so later registrations skip the claim.
+    private volatile boolean firstAdminClaimed;
 
     @Override
     @Transactional
@@ -45,35 +69,45 @@ public class UserServiceImpl implements UserService {
 
         UserRole role;
 
-        if (userRepository.findAll().isEmpty()) {
+        if (claimFirstAdmin()) {
             role = UserRole.ADMIN; // First user is Admin :)
         } else {
             role = UserRole.USER;
         }
 
         user.setRole(role);
-        user = userRepository.save(user);
+
+        try {
+            user = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent registration that passed the same checks.
+            throw new UserAlreadyRegisteredException(String.format("User with name %s or email %s already exists", userRequestDTO.username(), userRequestDTO.email()));
+        }
         return userMapper.toDTO(user);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponseDTO> findAll() {
-        return userRepository.findAll().stream().map(
-                userMapper::toDTO
-        ).toList();
+    public CursorPageResponseDTO<UserResponseDTO> findAll(String cursor, int size) {
+        Cursor after = Cursor.decode(cursor);
+
+        List<User> users = after == null
+                ? userRepository.findPage(CursorPagination.pageable(size))
+                : userRepository.findPageAfter(after.createdAt(), after.id(), CursorPagination.pageable(size));
+
+        return CursorPagination.toPage(users, size, User::getCreatedAt, User::getId, userMapper::toDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserResponseDTO findById(UUID id) {
-        return userMapper.toDTO(userRepository.findById(id).orElseThrow(() -> new UserNotFoundException("User with id " + id + " not found")));
+        return userMapper.toDTO(userRepository.findActiveById(id).orElseThrow(() -> new UserNotFoundException("User with id " + id + " not found")));
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserResponseDTO findByUsername(String username) {
-        User user = (User) userRepository.findByUsername(username);
+        User user = userRepository.findActiveByUsername(username);
 
         if (user == null) {
             throw new UserNotFoundException("User with username " + username + " not found");
@@ -82,10 +116,22 @@ public class UserServiceImpl implements UserService {
         return userMapper.toDTO(user);
     }
 
+    @Override
+    public String findETag(UUID id) {
+        return ETags.of(userRepository.findVersionById(id).orElseThrow(() -> new UserNotFoundException("User with id " + id + " not found")));
+    }
+
+    @Override
+    public String findETagByUsername(String username) {
+        return ETags.of(userRepository.findVersionByUsername(username).orElseThrow(() -> new UserNotFoundException("User with username " + username + " not found")));
+    }
+
     @Override
     @Transactional
     public UserResponseDTO update(UUID id, UserUpdateDTO userUpdateDTO) {
-        User user = userRepository.findById(id).orElseThrow(() -> new UserNotFoundException("User with id " + id + " not found"));
+        User user = userRepository.findActiveById(id).orElseThrow(() -> new UserNotFoundException("User with id " + id + " not found"));
+        principalCache.invalidate(user.getUsername());
+        String previousUsername = user.getUsername();
 
         if (userUpdateDTO.name() != null) {
             user.setUsername(userUpdateDTO.name());
@@ -113,7 +159,21 @@ public class UserServiceImpl implements UserService {
             user.setBio(userUpdateDTO.bio());
         }
 
-        user = userRepository.save(user);
+        try {
+            user = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new UserAlreadyRegisteredException("User with this username or email already registered");
+        }
+
+        // Comment previews show the username; the tweets the user commented on are updated once it is committed.
+        if (!user.getUsername().equals(previousUsername)) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    commenterRenamePropagator.propagate(id);
+                }
+            });
+        }
 
         return userMapper.toDTO(user);
     }
@@ -121,12 +181,13 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional
     public UserResponseDTO addAdmin(UUID id) {
-        User targetUser = (User) userRepository.findById(id).orElseThrow(
+        User targetUser = userRepository.findActiveById(id).orElseThrow(
                 () -> new UserNotFoundException("User with id " + id + " not found")
         );
 
         targetUser.setRole(UserRole.ADMIN);
         targetUser = userRepository.save(targetUser);
+        principalCache.invalidate(targetUser.getUsername());
 
         return userMapper.toDTO(targetUser);
     }
@@ -135,19 +196,56 @@ public class UserServiceImpl implements UserService {
     @Transactional
     public void delete(UUID id) {
 
-        if (!userRepository.existsById(id)) {
-            throw new UserNotFoundException("User with id " + id + " not found");
+        User user = userRepository.findById(id).orElseThrow(() -> new UserNotFoundException("User with id " + id + " not found"));
+
+        if (user.getDeletedAt() == null) {
+            user.setDeletedAt(new Date());
         }
 
-        userRepository.deleteById(id);
+        searchIndex.deleteUser(id);
+
+        // Only once the account is locked out: a principal cached earlier would still authenticate,
+        // and a purge started earlier could outlive a rollback.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                principalCache.invalidate(user.getUsername());
+                accountPurger.purge(id);
+            }
+        });
+
+    }
 
+    // Picks up purges cut short by a restart.
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePurges() {
+        userRepository.findIdsPendingDeletion().forEach(accountPurger::purge);
     }
 
     private User getUserFromToken(String token) {
         return getUser(token, tokenService, userRepository);
     }
 
+    private boolean claimFirstAdmin() {
+        if (firstAdminClaimed) {
+            return false;
+        }
+
+        if (bootstrapFlagRepository.claim(BootstrapFlag.FIRST_ADMIN) == 1) {
+            return true; // Rolls back together with this registration if it fails.
+        }
+
+        firstAdminClaimed = true;
+        return false;
+    }
+
     public static User getUser(String token, TokenService tokenService, UserRepository userRepository) {
+        // SecurityFilter already validated this same bearer token and resolved its principal.
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user;
+        }
+
         String username = tokenService.validateToken(token);
         if (username == null || username.isEmpty()) {
             throw new InvalidTokenException("Invalid token");
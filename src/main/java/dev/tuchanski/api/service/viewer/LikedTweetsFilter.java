@@ -0,0 +1,60 @@
+package dev.tuchanski.api.service.viewer;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Bloom filter over the tweet ids a user has liked. A negative answer is exact; a positive one must
+// still be confirmed against the database. Unlikes are not removed, they only add false positives.
+public class LikedTweetsFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final AtomicLongArray bits;
+    private final long size;
+    private final int hashes;
+
+    public LikedTweetsFilter(Collection<UUID> likedTweetIds, int expectedCapacity) {
+        long capacity = Math.max(expectedCapacity, 1024);
+        this.size = Math.max(64, (long) Math.ceil(-capacity * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2))));
+        this.hashes = Math.max(1, (int) Math.round((double) size / capacity * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((size + 63) / 64));
+        likedTweetIds.forEach(this::add);
+    }
+
+    public void add(UUID tweetId) {
+        long h1 = mix(tweetId.getMostSignificantBits() ^ tweetId.getLeastSignificantBits());
+        long h2 = mix(tweetId.getLeastSignificantBits()) | 1;
+
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, size);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            bits.getAndUpdate(word, value -> value | mask);
+        }
+    }
+
+    public int sizeInBytes() {
+        return bits.length() * Long.BYTES;
+    }
+
+    public boolean mightContain(UUID tweetId) {
+        long h1 = mix(tweetId.getMostSignificantBits() ^ tweetId.getLeastSignificantBits());
+        long h2 = mix(tweetId.getLeastSignificantBits()) | 1;
+
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, size);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,110 @@
+package dev.tuchanski.api.service.viewer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.tuchanski.api.repository.LikeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Keeps a LikedTweetsFilter for hot viewers only: a filter is built once a viewer has made
+// hot-after-requests state calls within the TTL, and never for viewers with more than max-likes
+// likes (an empty entry remembers that). Filters are weighed by their size in bytes.
+@Component
+public class LikedTweetsFilterCache {
+
+    private static final int EMPTY_ENTRY_BYTES = 64;
+
+    private final LikeRepository likeRepository;
+    private final boolean enabled;
+    private final int hotAfterRequests;
+    private final int maxLikes;
+    private final Cache<UUID, AtomicInteger> requests;
+    private final Cache<UUID, Optional<LikedTweetsFilter>> filters;
+
+    public LikedTweetsFilterCache(LikeRepository likeRepository,
+                                  @Value("${api.viewer-state.like-filter.enabled}") boolean enabled,
+                                  @Value("${api.viewer-state.like-filter.hot-after-requests}") int hotAfterRequests,
+                                  @Value("${api.viewer-state.like-filter.max-likes}") int maxLikes,
+                                  @Value("${api.viewer-state.like-filter.max-memory-mb}") long maxMemoryMb,
+                                  @Value("${api.viewer-state.like-filter.tracked-viewers}") long trackedViewers,
+                                  @Value("${api.viewer-state.like-filter.ttl-seconds}") long ttlSeconds) {
+        this.likeRepository = likeRepository;
+        this.enabled = enabled;
+        this.hotAfterRequests = hotAfterRequests;
+        this.maxLikes = maxLikes;
+        this.requests = Caffeine.newBuilder()
+                .maximumSize(trackedViewers)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.filters = Caffeine.newBuilder()
+                .maximumWeight(maxMemoryMb * 1024 * 1024)
+                .<UUID, Optional<LikedTweetsFilter>>weigher((userId, filter) -> filter.map(LikedTweetsFilter::sizeInBytes).orElse(EMPTY_ENTRY_BYTES))
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Optional<LikedTweetsFilter> get(UUID userId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Optional<LikedTweetsFilter> cached = filters.getIfPresent(userId);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        if (requests.get(userId, id -> new AtomicInteger()).incrementAndGet() < hotAfterRequests) {
+            return Optional.empty();
+        }
+
+        return filters.get(userId, this::load);
+    }
+
+    // computeIfPresent waits for an in-flight load of the same user, so a like committed while the
+    // filter is being built is never lost.
+    public void onLike(UUID userId, UUID tweetId) {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addIfPresent(userId, tweetId);
+                }
+            });
+            return;
+        }
+
+        addIfPresent(userId, tweetId);
+    }
+
+    private void addIfPresent(UUID userId, UUID tweetId) {
+        filters.asMap().computeIfPresent(userId, (id, filter) -> {
+            filter.ifPresent(present -> present.add(tweetId));
+            return filter;
+        });
+    }
+
+    // Reads at most max-likes + 1 ids, so a heavy liker costs one bounded query per TTL.
+    private Optional<LikedTweetsFilter> load(UUID userId) {
+        List<UUID> likedTweetIds = likeRepository.findTweetIdsByUserId(userId, PageRequest.of(0, maxLikes + 1));
+
+        if (likedTweetIds.size() > maxLikes) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new LikedTweetsFilter(likedTweetIds, likedTweetIds.size() * 2));
+    }
+}
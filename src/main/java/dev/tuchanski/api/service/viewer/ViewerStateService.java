@@ -0,0 +1,8 @@
+package dev.tuchanski.api.service.viewer;
+
+import dev.tuchanski.api.dto.viewer.ViewerStateRequestDTO;
+import dev.tuchanski.api.dto.viewer.ViewerStateResponseDTO;
+
+public interface ViewerStateService {
+    ViewerStateResponseDTO getViewerState(String token, ViewerStateRequestDTO viewerStateRequestDTO);
+}
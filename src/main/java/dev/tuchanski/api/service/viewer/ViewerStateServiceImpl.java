@@ -0,0 +1,69 @@
+package dev.tuchanski.api.service.viewer;
+
+import dev.tuchanski.api.dto.viewer.ViewerStateRequestDTO;
+import dev.tuchanski.api.dto.viewer.ViewerStateResponseDTO;
+import dev.tuchanski.api.entity.User;
+import dev.tuchanski.api.repository.FollowRepository;
+import dev.tuchanski.api.repository.LikeRepository;
+import dev.tuchanski.api.repository.UserRepository;
+import dev.tuchanski.api.service.auth.TokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static dev.tuchanski.api.service.user.UserServiceImpl.getUser;
+
+@Service
+@RequiredArgsConstructor
+public class ViewerStateServiceImpl implements ViewerStateService {
+
+    private final LikeRepository likeRepository;
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final TokenService tokenService;
+    private final LikedTweetsFilterCache likedTweetsFilterCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ViewerStateResponseDTO getViewerState(String token, ViewerStateRequestDTO viewerStateRequestDTO) {
+        User user = getUser(token, tokenService, userRepository);
+
+        return new ViewerStateResponseDTO(
+                findLikedTweetIds(user, viewerStateRequestDTO.tweetIds()),
+                findFollowedUsernames(user, viewerStateRequestDTO.usernames())
+        );
+    }
+
+    private Set<UUID> findLikedTweetIds(User user, List<UUID> tweetIds) {
+        if (tweetIds == null || tweetIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<UUID> candidates = tweetIds;
+        Optional<LikedTweetsFilter> filter = likedTweetsFilterCache.get(user.getId());
+
+        if (filter.isPresent()) {
+            candidates = tweetIds.stream().filter(filter.get()::mightContain).toList();
+
+            if (candidates.isEmpty()) {
+                return Set.of();
+            }
+        }
+
+        return new HashSet<>(likeRepository.findLikedTweetIds(user.getId(), candidates));
+    }
+
+    private Set<String> findFollowedUsernames(User user, List<String> usernames) {
+        if (usernames == null || usernames.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(followRepository.findFollowedUsernames(user.getId(), usernames));
+    }
+}
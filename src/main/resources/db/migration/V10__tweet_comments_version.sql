@@ -0,0 +1,3 @@
+-- Bumped by every comment write on the tweet and by renames and deletions of its commenters, so a
+-- tweet's ETag is read from its own row instead of aggregating its comments.
+ALTER TABLE tweets ADD COLUMN comments_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- Only family revocations are kept in memory; per-token rows stay in the table for the reuse check.
+ALTER TABLE revoked_tokens ADD COLUMN family BOOLEAN NOT NULL DEFAULT FALSE;
+CREATE INDEX idx_revoked_tokens_family_expires ON revoked_tokens (family, expires_at);
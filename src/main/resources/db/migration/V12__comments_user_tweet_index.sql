@@ -0,0 +1,2 @@
+-- Tweets a user commented on, walked in tweet id order when the user is renamed.
+CREATE INDEX idx_comments_user_tweet ON comments (user_id, tweet_id);
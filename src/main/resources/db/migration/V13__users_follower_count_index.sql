@@ -0,0 +1,2 @@
+-- High fan-out authors, reloaded for the home timeline every counter flush.
+CREATE INDEX idx_users_follower_count ON users (follower_count);
@@ -0,0 +1,59 @@
+-- Schema as previously generated by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases created that way are baselined at this version and skip this script.
+
+CREATE TABLE users (
+    id         BINARY(16)             NOT NULL,
+    name       VARCHAR(255)           NOT NULL,
+    username   VARCHAR(255)           NOT NULL,
+    email      VARCHAR(255)           NOT NULL,
+    password   VARCHAR(255)           NOT NULL,
+    bio        VARCHAR(255),
+    role       ENUM ('ADMIN', 'USER') NOT NULL,
+    created_at DATETIME(6)            NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE tweets (
+    id         BINARY(16)   NOT NULL,
+    content    VARCHAR(255) NOT NULL,
+    user_id    BINARY(16),
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_tweets_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comments (
+    id         BINARY(16)    NOT NULL,
+    content    VARCHAR(1000) NOT NULL,
+    tweet_id   BINARY(16),
+    user_id    BINARY(16),
+    created_at DATETIME(6)   NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_tweet FOREIGN KEY (tweet_id) REFERENCES tweets (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE likes (
+    id         BINARY(16) NOT NULL,
+    tweet_id   BINARY(16),
+    user_id    BINARY(16),
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_likes_tweet FOREIGN KEY (tweet_id) REFERENCES tweets (id),
+    CONSTRAINT fk_likes_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE follows (
+    id          BINARY(16)  NOT NULL,
+    follower_id BINARY(16)  NOT NULL,
+    followed_id BINARY(16)  NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_follows_follower FOREIGN KEY (follower_id) REFERENCES users (id),
+    CONSTRAINT fk_follows_followed FOREIGN KEY (followed_id) REFERENCES users (id)
+) ENGINE = InnoDB;
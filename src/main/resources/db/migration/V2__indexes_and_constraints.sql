@@ -0,0 +1,57 @@
+-- Tables and columns added since the ddl-auto=update schema: counters and the home timeline.
+ALTER TABLE users
+    ADD COLUMN follower_count  BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN following_count BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE tweets
+    ADD COLUMN like_count    BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE timeline_entries (
+    owner_id   BINARY(16)  NOT NULL,
+    tweet_id   BINARY(16)  NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (owner_id, tweet_id),
+    CONSTRAINT fk_timeline_entries_tweet FOREIGN KEY (tweet_id) REFERENCES tweets (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_timeline_tweet ON timeline_entries (tweet_id);
+
+-- Remove duplicates left by the old check-then-insert race before enforcing uniqueness.
+DELETE l1 FROM likes l1
+    JOIN likes l2 ON l1.user_id = l2.user_id AND l1.tweet_id = l2.tweet_id AND l1.id > l2.id;
+
+DELETE f1 FROM follows f1
+    JOIN follows f2 ON f1.follower_id = f2.follower_id AND f1.followed_id = f2.followed_id AND f1.id > f2.id;
+
+-- likes: existsByUserAndTweet / findByUserAndTweet / viewer state, likes of a tweet, likes of a user
+CREATE UNIQUE INDEX uk_likes_user_tweet ON likes (user_id, tweet_id);
+CREATE INDEX idx_likes_tweet_created ON likes (tweet_id, created_at, id);
+CREATE INDEX idx_likes_user_created ON likes (user_id, created_at, id);
+
+-- follows: existsByFollowerAndFollowed, following and followers pages, follower counts
+CREATE UNIQUE INDEX uk_follows_follower_followed ON follows (follower_id, followed_id);
+CREATE INDEX idx_follows_follower_created ON follows (follower_id, created_at, id);
+CREATE INDEX idx_follows_followed_created ON follows (followed_id, created_at, id);
+
+-- tweets: global listing and per-author listing / fan-out on read
+CREATE INDEX idx_tweets_created ON tweets (created_at, id);
+CREATE INDEX idx_tweets_user_created ON tweets (user_id, created_at, id);
+
+-- comments: comment pages and comment previews of a tweet
+CREATE INDEX idx_comments_tweet_created ON comments (tweet_id, created_at, id);
+
+-- users: admin listing
+CREATE INDEX idx_users_created ON users (created_at, id);
+
+-- timeline: home timeline range scan including the tweet_id tie-breaker
+CREATE INDEX idx_timeline_owner_created_tweet ON timeline_entries (owner_id, created_at, tweet_id);
+
+-- Counters were introduced without backfilling existing rows.
+UPDATE tweets t
+SET t.like_count    = (SELECT COUNT(*) FROM likes l WHERE l.tweet_id = t.id),
+    t.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.tweet_id = t.id);
+
+UPDATE users u
+SET u.follower_count  = (SELECT COUNT(*) FROM follows f WHERE f.followed_id = u.id),
+    u.following_count = (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u.id);
@@ -0,0 +1,9 @@
+CREATE TABLE bootstrap_flags (
+    name       VARCHAR(64) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+-- Existing installations already have their first admin.
+INSERT INTO bootstrap_flags (name, created_at)
+SELECT 'FIRST_ADMIN', NOW(6) FROM DUAL WHERE EXISTS (SELECT 1 FROM users);
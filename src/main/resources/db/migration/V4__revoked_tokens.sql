@@ -0,0 +1,7 @@
+CREATE TABLE revoked_tokens (
+    id         BINARY(16)  NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_revoked_tokens_expires ON revoked_tokens (expires_at);
@@ -0,0 +1,11 @@
+CREATE TABLE import_jobs (
+    id              BINARY(16)                              NOT NULL,
+    status          ENUM ('RUNNING', 'COMPLETED', 'FAILED') NOT NULL,
+    committed_lines BIGINT                                  NOT NULL,
+    imported_rows   BIGINT                                  NOT NULL,
+    rejected_lines  BIGINT                                  NOT NULL,
+    last_error      VARCHAR(1000),
+    created_at      DATETIME(6)                             NOT NULL,
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,27 @@
+CREATE TABLE tweet_hashtags (
+    tweet_id   BINARY(16)  NOT NULL,
+    tag        VARCHAR(50) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (tweet_id, tag),
+    CONSTRAINT fk_tweet_hashtags_tweet FOREIGN KEY (tweet_id) REFERENCES tweets (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_tweet_hashtags_tag_created ON tweet_hashtags (tag, created_at, tweet_id);
+
+CREATE TABLE tweet_mentions (
+    tweet_id   BINARY(16)  NOT NULL,
+    user_id    BINARY(16)  NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (tweet_id, user_id),
+    CONSTRAINT fk_tweet_mentions_tweet FOREIGN KEY (tweet_id) REFERENCES tweets (id),
+    CONSTRAINT fk_tweet_mentions_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_tweet_mentions_user_created ON tweet_mentions (user_id, created_at, tweet_id);
+
+CREATE TABLE trending_checkpoints (
+    name     VARCHAR(64) NOT NULL,
+    data     LONGBLOB    NOT NULL,
+    saved_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
@@ -0,0 +1,3 @@
+-- Tags are compared the way Java compares them: under the default accent- and case-insensitive
+-- collation #café and #cafe were one primary key, so a tweet carrying both failed to save.
+ALTER TABLE tweet_hashtags MODIFY tag VARCHAR(50) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL;
@@ -0,0 +1,105 @@
+package dev.tuchanski.api.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import dev.tuchanski.api.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Refresh token rotation end to end: the family revocation on reuse must be committed although the
+// request itself fails, which depends on the transaction, the INSERT IGNORE counts and the revocation
+// store together. Same in-memory H2 setup as StatementBudgetTest.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:refresh_rotation;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.flyway.enabled=false",
+        "api.search.index-dir=target/refresh-rotation-search-index"
+})
+@AutoConfigureMockMvc
+@DirtiesContext
+class RefreshTokenRotationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Test
+    void reusedRefreshTokenRevokesItsFamily() throws Exception {
+        String first = login(register("replayed"));
+        String rotated = refreshToken(refresh(first).andExpect(status().isOk()));
+        long revokedFamilies = revokedFamilies();
+
+        refresh(first).andExpect(status().isUnauthorized());
+
+        // Committed despite the 401, not only remembered in memory.
+        assertEquals(revokedFamilies + 1, revokedFamilies());
+        refresh(rotated).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void rotatedRefreshTokenCanBeUsedOnce() throws Exception {
+        String first = login(register("rotating"));
+        String second = refreshToken(refresh(first).andExpect(status().isOk()));
+        String third = refreshToken(refresh(second).andExpect(status().isOk()));
+
+        refresh(third).andExpect(status().isOk());
+    }
+
+    @Test
+    void logoutRevokesTheFamily() throws Exception {
+        String first = login(register("leaving"));
+        String rotated = refreshToken(refresh(first).andExpect(status().isOk()));
+
+        mockMvc.perform(post("/api/auth/logout").contentType(MediaType.APPLICATION_JSON).content(body(rotated)))
+                .andExpect(status().isNoContent());
+
+        refresh(rotated).andExpect(status().isUnauthorized());
+    }
+
+    private long revokedFamilies() {
+        return revokedTokenRepository.findAllByFamilyTrueAndExpiresAtAfter(new Date()).size();
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON).content(body(refreshToken)));
+    }
+
+    private String refreshToken(ResultActions result) throws Exception {
+        return JsonPath.read(result.andReturn().getResponse().getContentAsString(), "$.refreshToken");
+    }
+
+    private String body(String refreshToken) {
+        return "{\"refreshToken\":\"" + refreshToken + "\"}";
+    }
+
+    private String register(String username) throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + username + "\",\"username\":\"" + username + "\",\"email\":\"" + username + "@example.com\",\"password\":\"pass1234\"}"))
+                .andExpect(status().isCreated());
+        return username;
+    }
+
+    private String login(String username) throws Exception {
+        String credentials = "{\"username\":\"" + username + "\",\"password\":\"pass1234\"}";
+        return refreshToken(mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,102 @@
+package dev.tuchanski.api.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static dev.tuchanski.api.support.StatementCountMatchers.statementsAtMost;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Pins the SQL statements of the hottest reads, so an N+1 shows up as a failing test rather than on
+// the statement budget dashboard. Runs against an in-memory H2 database with a Hibernate-generated schema.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement_budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.flyway.enabled=false",
+        "api.search.index-dir=target/statement-budget-search-index"
+})
+@AutoConfigureMockMvc
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatementBudgetTest {
+
+    private static final int TWEETS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String readerToken;
+    private String tweetId;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        String authorToken = register("author");
+        readerToken = register("reader");
+
+        mockMvc.perform(post("/api/users/author/follow").header("Authorization", "Bearer " + readerToken))
+                .andExpect(status().isCreated());
+
+        for (int i = 0; i < TWEETS; i++) {
+            String response = mockMvc.perform(post("/api/tweets")
+                            .header("Authorization", "Bearer " + authorToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"content\":\"tweet " + i + " #budget\"}"))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            tweetId = JsonPath.read(response, "$.id");
+
+            mockMvc.perform(post("/api/tweets/" + tweetId + "/comments")
+                            .header("Authorization", "Bearer " + readerToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"content\":\"comment " + i + "\"}"))
+                    .andExpect(status().isCreated());
+        }
+    }
+
+    // The timeline page and one query for every comment preview on it, whatever the page size. No author
+    // is over the fan-out threshold, so the viewer's follows are not read; the principal is already cached.
+    @Test
+    void homeTimelineRunsAFixedNumberOfStatements() throws Exception {
+        mockMvc.perform(get("/api/timeline").header("Authorization", "Bearer " + readerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(TWEETS))
+                .andExpect(statementsAtMost(2));
+    }
+
+    // ETag projection, tweet row and every comment with its author.
+    @Test
+    void tweetPageRunsAFixedNumberOfStatements() throws Exception {
+        mockMvc.perform(get("/api/tweets/" + tweetId).param("allComments", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(1))
+                .andExpect(statementsAtMost(3));
+    }
+
+    private String register(String username) throws Exception {
+        String credentials = "{\"username\":\"" + username + "\",\"password\":\"pass1234\"}";
+
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + username + "\",\"username\":\"" + username + "\",\"email\":\"" + username + "@example.com\",\"password\":\"pass1234\"}"))
+                .andExpect(status().isCreated());
+
+        String response = mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.token");
+    }
+}
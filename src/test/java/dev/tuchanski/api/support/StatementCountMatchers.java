@@ -0,0 +1,41 @@
+package dev.tuchanski.api.support;
+
+import dev.tuchanski.api.infra.metrics.StatementCountFilter;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.springframework.test.util.AssertionErrors.assertNotNull;
+import static org.springframework.test.util.AssertionErrors.assertTrue;
+
+// MockMvc matchers on the SQL statements a request ran, e.g.
+// mockMvc.perform(get("/api/timeline")).andExpect(statementsAtMost(4)).
+// Needs the StatementCountFilter in the chain, which @AutoConfigureMockMvc adds.
+public final class StatementCountMatchers {
+
+    private StatementCountMatchers() {
+    }
+
+    public static ResultMatcher statementsAtMost(long max) {
+        return result -> {
+            long statements = statements(result);
+            assertTrue(describe(result) + " ran " + statements + " SQL statements, expected at most " + max, statements <= max);
+        };
+    }
+
+    public static ResultMatcher statements(long expected) {
+        return result -> {
+            long statements = statements(result);
+            assertTrue(describe(result) + " ran " + statements + " SQL statements, expected " + expected, statements == expected);
+        };
+    }
+
+    private static long statements(MvcResult result) {
+        Object statements = result.getRequest().getAttribute(StatementCountFilter.STATEMENTS_ATTRIBUTE);
+        assertNotNull("No statement count on the request; is StatementCountFilter registered with MockMvc?", statements);
+        return (Long) statements;
+    }
+
+    private static String describe(MvcResult result) {
+        return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+    }
+}